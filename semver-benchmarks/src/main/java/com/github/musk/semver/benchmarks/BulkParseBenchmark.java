@@ -0,0 +1,92 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Semver;
+import com.github.musk.semver.SemverBulkParser;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing a file of newline separated registry versions (about 10% malformed) with {@link SemverBulkParser} compared
+ * to a {@code BufferedReader.readLine()} loop. Scores are per file; divide the line count and file size by the score
+ * to get lines/s and MB/s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkParseBenchmark {
+
+    @Param("1000000")
+    private int lines;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        var versions = RegistryCorpus.versions(lines);
+        var invalid = RegistryCorpus.invalid(lines / 10);
+        for (var i = 0; i < invalid.length; i++) {
+            versions[i * 10] = invalid[i];
+        }
+        file = Files.createTempFile("versions", ".txt");
+        Files.write(file, String.join("\n", versions).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long readLineLoop(Blackhole blackhole) throws IOException {
+        var parsed = 0L;
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                var version = Semver.tryParse(line);
+                if (version.isPresent()) {
+                    blackhole.consume(version.get());
+                    parsed++;
+                }
+            }
+        }
+        return parsed;
+    }
+
+    @Benchmark
+    public long bulkParser(Blackhole blackhole) throws IOException {
+        var malformed = new LongAdder();
+        return new SemverBulkParser().parse(file, new SemverBulkParser.Sink() {
+            @Override
+            public void accept(List<Semver> batch) {
+                blackhole.consume(batch);
+            }
+
+            @Override
+            public void malformed(long lineNumber, String line) {
+                malformed.increment();
+            }
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Bump;
+import com.github.musk.semver.Semver;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The version derivations used by release tooling, e.g. {@code parse(v).minor().prerel("rc.1").build(sha)}. Scores
+ * are per version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BumpBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private Semver[] versions;
+
+    @Setup
+    public void setup() {
+        versions = CompareBenchmark.parse(RegistryCorpus.versions(SIZE));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void patch(Blackhole blackhole) {
+        for (var version : versions) {
+            blackhole.consume(version.patch());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void minorPrerel(Blackhole blackhole) {
+        for (var version : versions) {
+            blackhole.consume(version.minor().prerel("rc.1"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void majorPrerelBuild(Blackhole blackhole) {
+        for (var version : versions) {
+            blackhole.consume(version.major().prerel("alpha.1").build("exp.sha.5114f85"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void majorPrerelBuildBuilder(Blackhole blackhole) {
+        for (var version : versions) {
+            blackhole.consume(
+                    version.toBuilder().bump(Bump.MAJOR).withPrerel("alpha.1").withBuild("exp.sha.5114f85").build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void release(Blackhole blackhole) {
+        for (var version : versions) {
+            blackhole.consume(version.release());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Semver;
+import com.github.musk.semver.SemverCache;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cache hits from several threads on a few hot versions, answered by a {@link SemverCache} and by a synchronized,
+ * access ordered {@link LinkedHashMap}, where every hit is a write under one lock. Scores are lookups per millisecond
+ * of all threads together; run with {@code -t 1}, {@code -t 8}, {@code -t 64} etc. to see how they scale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class CacheBenchmark {
+
+    private static final int HOT_VERSIONS = 16;
+    private static final int SIZE = 256;
+
+    private final SemverCache cache = new SemverCache(10_000);
+    private final Map<String, Semver> synchronizedLru = new LinkedHashMap<>(16, 0.75f, true);
+    private String[] versions;
+
+    @Setup
+    public void setup() {
+        var hot = RegistryCorpus.versions(HOT_VERSIONS);
+        versions = new String[SIZE];
+        for (var i = 0; i < SIZE; i++) {
+            versions[i] = hot[i % HOT_VERSIONS];
+            cache.parse(versions[i]);
+            synchronizedLru.put(versions[i], Semver.parse(versions[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int cacheHits() {
+        var result = 0;
+        for (var version : versions) {
+            result += cache.parse(version).hashCode();
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int synchronizedLruHits() {
+        var result = 0;
+        for (var version : versions) {
+            synchronized (synchronizedLru) {
+                result += synchronizedLru.get(version).hashCode();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Semver;
+import com.github.musk.semver.SemverCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding and decoding registry versions one by one, as in cache entries or RPC payloads, with {@link SemverCodec}
+ * and with Java serialization of a single version per stream. Scores are per version; the encoded sizes are pinned
+ * by {@code SemverCodecTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private Semver[] versions;
+    private byte[][] serialized;
+    private byte[] encoded;
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setup() throws IOException {
+        versions = CompareBenchmark.parse(RegistryCorpus.versions(SIZE));
+        serialized = new byte[SIZE][];
+        for (var i = 0; i < SIZE; i++) {
+            serialized[i] = serialize(versions[i]);
+        }
+        buffer = new ByteArrayOutputStream(SIZE * 32);
+        var out = new DataOutputStream(buffer);
+        for (var version : versions) {
+            SemverCodec.write(version, out);
+        }
+        encoded = buffer.toByteArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int encode() throws IOException {
+        buffer.reset();
+        var out = new DataOutputStream(buffer);
+        for (var version : versions) {
+            SemverCodec.write(version, out);
+        }
+        return buffer.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int decode() throws IOException {
+        var in = new DataInputStream(new ByteArrayInputStream(encoded));
+        var hash = 0;
+        for (var i = 0; i < SIZE; i++) {
+            hash += SemverCodec.read(in).getMajor();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int serialize() throws IOException {
+        var length = 0;
+        for (var version : versions) {
+            length += serialize(version).length;
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int deserialize() throws IOException, ClassNotFoundException {
+        var hash = 0;
+        for (var bytes : serialized) {
+            try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                hash += in.readObject().hashCode();
+            }
+        }
+        return hash;
+    }
+
+    private static byte[] serialize(Semver version) throws IOException {
+        var bytes = new ByteArrayOutputStream(256);
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(version);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Semver;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Semver#compareTo(Semver)} of neighbouring versions whose difference is in the version core, in the
+ * prerelease or only in the build metadata, and of the {@link Semver#toSortKey() sort keys} of the prereleases. Scores
+ * are per comparison.
+ * <p>
+ * {@link #timestampPatches()} compares nightly builds like {@code 1.0.20230117093015}, whose patch version needs a
+ * {@code long}, {@link #oversizedCore()} versions with a minor version beyond a {@code long}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompareBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private Semver[] releases;
+    private Semver[] prereleases;
+    private Semver[] builds;
+    private Semver[] timestamps;
+    private Semver[] oversized;
+    private byte[][] prereleaseKeys;
+
+    @Setup
+    public void setup() {
+        releases = parse(RegistryCorpus.releases(SIZE + 1));
+        prereleases = parse(RegistryCorpus.prereleases(SIZE + 1));
+        builds = parse(RegistryCorpus.builds(SIZE + 1));
+        timestamps = new Semver[SIZE + 1];
+        oversized = new Semver[SIZE + 1];
+        for (var i = 0; i <= SIZE; i++) {
+            timestamps[i] = Semver.parse("1.0." + (20230117093015L + 97L * (i % 7) * i));
+            oversized[i] = Semver.parse("1." + (i % 5 + 1) + "9999999999999999999." + (i % 3));
+        }
+        prereleaseKeys = new byte[SIZE + 1][];
+        for (var i = 0; i <= SIZE; i++) {
+            prereleaseKeys[i] = prereleases[i].toSortKey();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int coreOnly() {
+        return compareNeighbours(releases);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int prereleaseHeavy() {
+        return compareNeighbours(prereleases);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int buildOnly() {
+        return compareNeighbours(builds);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int timestampPatches() {
+        return compareNeighbours(timestamps);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int oversizedCore() {
+        return compareNeighbours(oversized);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int prereleaseHeavySortKeys() {
+        var result = 0;
+        for (var i = 0; i < SIZE; i++) {
+            result += Arrays.compareUnsigned(prereleaseKeys[i], prereleaseKeys[i + 1]);
+        }
+        return result;
+    }
+
+    private static int compareNeighbours(Semver[] versions) {
+        var result = 0;
+        for (var i = 0; i < SIZE; i++) {
+            result += versions[i].compareTo(versions[i + 1]);
+        }
+        return result;
+    }
+
+    static Semver[] parse(String[] versions) {
+        var result = new Semver[versions.length];
+        for (var i = 0; i < versions.length; i++) {
+            result[i] = Semver.parse(versions[i]);
+        }
+        return result;
+    }
+}
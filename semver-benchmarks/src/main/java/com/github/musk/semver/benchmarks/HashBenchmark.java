@@ -0,0 +1,95 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Semver;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Semver#hashCode()} and {@link Semver#equals(Object)} as used by a {@code HashMap} keyed by version, and
+ * {@link Semver#toString()} as used by logging. The lookup keys of {@code mapGet} are parsed separately from the map
+ * keys, so every hit goes through {@code equals}, {@code mapGetSameKeys} looks up the map keys themselves. Scores are
+ * per version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private Semver[] keys;
+    private Semver[] lookups;
+    private Map<Semver, Integer> map;
+
+    @Setup
+    public void setup() {
+        var versions = RegistryCorpus.distinct(RegistryCorpus.versions(SIZE * 2)).subList(0, SIZE)
+                .toArray(new String[0]);
+        keys = CompareBenchmark.parse(versions);
+        lookups = CompareBenchmark.parse(versions);
+        map = new HashMap<>();
+        for (var i = 0; i < SIZE; i++) {
+            map.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int hashCodes() {
+        var result = 0;
+        for (var version : lookups) {
+            result += version.hashCode();
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void mapGet(Blackhole blackhole) {
+        for (var version : lookups) {
+            blackhole.consume(map.get(version));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void mapGetSameKeys(Blackhole blackhole) {
+        for (var version : keys) {
+            blackhole.consume(map.get(version));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toStrings(Blackhole blackhole) {
+        for (var version : lookups) {
+            blackhole.consume(version.toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Map<Semver, Integer> mapPut() {
+        var result = new HashMap<Semver, Integer>(SIZE * 2);
+        for (var i = 0; i < SIZE; i++) {
+            result.put(lookups[i], i);
+        }
+        return result;
+    }
+}
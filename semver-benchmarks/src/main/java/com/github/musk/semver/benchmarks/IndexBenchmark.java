@@ -0,0 +1,74 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Semver;
+import com.github.musk.semver.SemverIndex;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * "Highest version at or below" queries against a catalog of registry versions, answered by a {@link SemverIndex}
+ * and by a linear scan with {@link Semver#compareTo(Semver)}. Scores are per query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IndexBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int SIZE = 256;
+
+    private Semver[] catalog;
+    private SemverIndex index;
+    private Semver[] queries;
+
+    @Setup
+    public void setup() {
+        catalog = CompareBenchmark.parse(RegistryCorpus.versions(CATALOG_SIZE));
+        index = SemverIndex.of(Arrays.asList(catalog));
+        queries = CompareBenchmark.parse(RegistryCorpus.releases(SIZE));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int indexFloor() {
+        var found = 0;
+        for (var query : queries) {
+            if (index.floor(query) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int linearFloor() {
+        var found = 0;
+        for (var query : queries) {
+            Semver floor = null;
+            for (var version : catalog) {
+                if (version.compareTo(query) <= 0 && (floor == null || version.compareTo(floor) > 0)) {
+                    floor = version;
+                }
+            }
+            if (floor != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.CountingSemverMetrics;
+import com.github.musk.semver.Semver;
+import com.github.musk.semver.SemverMetrics;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of the {@link SemverMetrics} and Flight Recorder hooks. The plain benchmarks run without instrumentation, the
+ * {@code Recording} ones with a running Flight Recorder recording, whose parse events stay below their threshold, and
+ * the {@code Counting} ones with {@link CountingSemverMetrics} installed. Scores are per version respectively per
+ * comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InstrumentationBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final String COUNTING = "-D" + SemverMetrics.PROVIDER_PROPERTY
+            + "=com.github.musk.semver.CountingSemverMetrics";
+    private static final String RECORDING = "-XX:StartFlightRecording";
+
+    private String[] versions;
+    private Semver[] releases;
+
+    @Setup
+    public void setup() {
+        versions = RegistryCorpus.versions(SIZE);
+        releases = CompareBenchmark.parse(RegistryCorpus.releases(SIZE + 1));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parse(Blackhole blackhole) {
+        parseAll(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    @Fork(jvmArgsAppend = RECORDING)
+    public void parseRecording(Blackhole blackhole) {
+        parseAll(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    @Fork(jvmArgsAppend = COUNTING)
+    public void parseCounting(Blackhole blackhole) {
+        parseAll(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int compare() {
+        return compareAll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    @Fork(jvmArgsAppend = COUNTING)
+    public int compareCounting() {
+        return compareAll();
+    }
+
+    private void parseAll(Blackhole blackhole) {
+        for (var version : versions) {
+            blackhole.consume(Semver.parse(version));
+        }
+    }
+
+    private int compareAll() {
+        var result = 0;
+        for (var i = 0; i < SIZE; i++) {
+            result += releases[i].compareTo(releases[i + 1]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Semver;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Semver#parse(String)} and {@link Semver#validate(String)} over registry versions and manifest garbage.
+ * Scores are per version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParseBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private String[] versions;
+    private String[] invalid;
+    private byte[][] bytes;
+
+    @Setup
+    public void setup() {
+        versions = RegistryCorpus.versions(SIZE);
+        invalid = RegistryCorpus.invalid(SIZE);
+        bytes = new byte[SIZE][];
+        for (var i = 0; i < SIZE; i++) {
+            bytes[i] = versions[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parse(Blackhole blackhole) {
+        for (var version : versions) {
+            blackhole.consume(Semver.parse(version));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseBytes(Blackhole blackhole) {
+        for (var version : bytes) {
+            blackhole.consume(Semver.parse(version, 0, version.length));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void decodeAndParseBytes(Blackhole blackhole) {
+        for (var version : bytes) {
+            blackhole.consume(Semver.parse(new String(version, StandardCharsets.US_ASCII)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void validateValid(Blackhole blackhole) {
+        for (var version : versions) {
+            blackhole.consume(Semver.validate(version));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void validateInvalid(Blackhole blackhole) {
+        for (var version : invalid) {
+            blackhole.consume(Semver.validate(version));
+        }
+    }
+}
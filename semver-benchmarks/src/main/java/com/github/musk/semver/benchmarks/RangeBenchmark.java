@@ -0,0 +1,79 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Semver;
+import com.github.musk.semver.SemverRange;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matching registry versions against a range of several alternatives, once with a compiled {@link SemverRange} and
+ * once with a loop of {@link Semver#compareTo(Semver)} over the bounds of every alternative. Scores are per version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RangeBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final String RANGE = "~0.3.1 || ^1.2.0 || >=2.4.0 <3.0.0-rc.1 || 4.x || 5.1.x || >=7.0.0-0 <7.1.0";
+    /** inclusive lower and exclusive upper bounds of {@link #RANGE} */
+    private static final String[][] BOUNDS = {{"0.3.1", "0.4.0-0"}, {"1.2.0", "2.0.0-0"}, {"2.4.0", "3.0.0-rc.1"},
+            {"4.0.0", "5.0.0-0"}, {"5.1.0", "5.2.0-0"}, {"7.0.0-0", "7.1.0"}};
+
+    private Semver[] versions;
+    private SemverRange range;
+    private Semver[] lower;
+    private Semver[] upper;
+
+    @Setup
+    public void setup() {
+        versions = CompareBenchmark.parse(RegistryCorpus.versions(SIZE));
+        range = SemverRange.parse(RANGE);
+        lower = new Semver[BOUNDS.length];
+        upper = new Semver[BOUNDS.length];
+        for (var i = 0; i < BOUNDS.length; i++) {
+            lower[i] = Semver.parse(BOUNDS[i][0]);
+            upper[i] = Semver.parse(BOUNDS[i][1]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int compiled() {
+        var matches = 0;
+        for (var version : versions) {
+            if (range.test(version)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int compareToLoop() {
+        var matches = 0;
+        for (var version : versions) {
+            for (var i = 0; i < lower.length; i++) {
+                if (version.compareTo(lower[i]) >= 0 && version.compareTo(upper[i]) < 0) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Semver;
+import com.github.musk.semver.SemverRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Publish events from several threads, tracked by a {@link SemverRegistry} and by a synchronized map updated with
+ * {@link Semver#compareTo(Semver)}. Scores are operations per millisecond of all threads together; run with
+ * {@code -t 1}, {@code -t 8}, {@code -t 32} etc. to see how they scale.
+ * <p>
+ * The {@code offer} benchmarks replay registry versions for a thousand artifacts, so after warm up almost no offer
+ * advances a maximum, like in a long running ingest service. The {@code publish} benchmarks let every thread publish
+ * ever increasing versions of the same few artifacts, so that threads race to advance the same maxima.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class RegistryBenchmark {
+
+    private static final int ARTIFACTS = 1000;
+    private static final int HOT_ARTIFACTS = 16;
+    private static final int EVENTS = 1 << 14;
+    private static final int SIZE = 256;
+
+    private final SemverRegistry<Integer> registry = new SemverRegistry<>();
+    /** highest release and highest prerelease per artifact */
+    private final Map<Integer, Semver[]> synchronizedMap = new HashMap<>();
+
+    /**
+     * Events of one publishing thread.
+     */
+    @State(Scope.Thread)
+    public static class Publisher {
+
+        Integer[] artifacts;
+        Semver[] versions;
+        int next;
+        Semver published = Semver.parse("1.0.0");
+
+        @Setup
+        public void setup(ThreadParams threads) {
+            var corpus = CompareBenchmark.parse(RegistryCorpus.versions(EVENTS));
+            artifacts = new Integer[EVENTS];
+            versions = new Semver[EVENTS];
+            // every thread replays the same events, starting at a different one
+            var offset = threads.getThreadIndex() * EVENTS / threads.getThreadCount();
+            for (var i = 0; i < EVENTS; i++) {
+                var event = (i + offset) % EVENTS;
+                artifacts[i] = event % ARTIFACTS;
+                versions[i] = corpus[event];
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int registryOffer(Publisher publisher) {
+        var advanced = 0;
+        for (var i = 0; i < SIZE; i++) {
+            var event = publisher.next++ & (EVENTS - 1);
+            if (registry.offer(publisher.artifacts[event], publisher.versions[event])) {
+                advanced++;
+            }
+        }
+        return advanced;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int synchronizedOffer(Publisher publisher) {
+        var advanced = 0;
+        for (var i = 0; i < SIZE; i++) {
+            var event = publisher.next++ & (EVENTS - 1);
+            if (offerSynchronized(publisher.artifacts[event], publisher.versions[event])) {
+                advanced++;
+            }
+        }
+        return advanced;
+    }
+
+    @Benchmark
+    public boolean registryPublish(Publisher publisher) {
+        publisher.published = publisher.published.patch();
+        return registry.offer(publisher.next++ & (HOT_ARTIFACTS - 1), publisher.published);
+    }
+
+    @Benchmark
+    public boolean synchronizedPublish(Publisher publisher) {
+        publisher.published = publisher.published.patch();
+        return offerSynchronized(publisher.next++ & (HOT_ARTIFACTS - 1), publisher.published);
+    }
+
+    private boolean offerSynchronized(Integer artifact, Semver version) {
+        synchronized (synchronizedMap) {
+            var latest = synchronizedMap.computeIfAbsent(artifact, a -> new Semver[2]);
+            var slot = version.getPrerel() == null ? 0 : 1;
+            if (latest[slot] != null && version.compareTo(latest[slot]) <= 0) {
+                return false;
+            }
+            latest[slot] = version;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.musk.semver.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic version strings as they show up in a package registry.
+ * <p>
+ * The mix is skewed like real registries: most entries are plain releases with small version numbers, a quarter are
+ * prereleases (some of them long snapshot or nightly identifiers) and a few carry build metadata. The data is
+ * generated from a fixed seed so that runs are comparable.
+ */
+public final class RegistryCorpus {
+
+    private static final long SEED = 0x5EED_5E3BL;
+
+    private static final String[] INVALID = {"latest", "^1.2", "~2.3.1", "1.2", "v1", "1.2.3.4", "*", ">=1.0.0",
+            "1.02.3", "", "next", "1.0.0-beta..1", "1.x", "release-1.0", "1.0.0+", "01.0.0", "1.0.0-rc_1", "stable",
+            "1.2.3 ", "2.0.0-"};
+
+    private RegistryCorpus() {
+    }
+
+    /**
+     * @return {@code size} valid version strings
+     */
+    public static String[] versions(int size) {
+        var random = new Random(SEED);
+        var versions = new String[size];
+        for (var i = 0; i < size; i++) {
+            versions[i] = version(random);
+        }
+        return versions;
+    }
+
+    /**
+     * @return {@code size} strings that are not semantic versions but look like what is found in manifests
+     */
+    public static String[] invalid(int size) {
+        var random = new Random(SEED);
+        var invalid = new String[size];
+        for (var i = 0; i < size; i++) {
+            invalid[i] = INVALID[random.nextInt(INVALID.length)];
+        }
+        return invalid;
+    }
+
+    /**
+     * @return {@code size} version strings that only differ in their prerelease, e.g. {@code 1.4.0-rc.3}
+     */
+    public static String[] prereleases(int size) {
+        var random = new Random(SEED);
+        var versions = new String[size];
+        for (var i = 0; i < size; i++) {
+            versions[i] = "1.4.0-" + prerelease(random);
+        }
+        return versions;
+    }
+
+    /**
+     * @return {@code size} version strings that only differ in their build metadata
+     */
+    public static String[] builds(int size) {
+        var random = new Random(SEED);
+        var versions = new String[size];
+        for (var i = 0; i < size; i++) {
+            versions[i] = random.nextInt(4) == 0 ? "2.1.7" : "2.1.7+" + build(random);
+        }
+        return versions;
+    }
+
+    /**
+     * @return {@code size} release versions that only differ in their version core
+     */
+    public static String[] releases(int size) {
+        var random = new Random(SEED);
+        var versions = new String[size];
+        for (var i = 0; i < size; i++) {
+            versions[i] = core(random);
+        }
+        return versions;
+    }
+
+    /**
+     * @return the versions without duplicates, in order of their first occurrence
+     */
+    public static List<String> distinct(String[] versions) {
+        var result = new ArrayList<String>();
+        var seen = new HashSet<String>();
+        for (var version : versions) {
+            if (seen.add(version)) {
+                result.add(version);
+            }
+        }
+        return result;
+    }
+
+    private static String version(Random random) {
+        var kind = random.nextInt(100);
+        var core = core(random);
+        if (kind < 62) {
+            return core;
+        } else if (kind < 87) {
+            return core + "-" + prerelease(random);
+        } else if (kind < 95) {
+            return core + "+" + build(random);
+        }
+        return core + "-" + prerelease(random) + "+" + build(random);
+    }
+
+    private static String core(Random random) {
+        return skewed(random, 12) + "." + skewed(random, 30) + "." + skewed(random, 60);
+    }
+
+    private static String prerelease(Random random) {
+        switch (random.nextInt(8)) {
+            case 0:
+                return "alpha";
+            case 1:
+                return "alpha." + skewed(random, 20);
+            case 2:
+                return "beta." + skewed(random, 20);
+            case 3:
+            case 4:
+                return "rc." + skewed(random, 5);
+            case 5:
+                return "SNAPSHOT";
+            case 6:
+                return "nightly." + (20200101 + random.nextInt(40000)) + "." + random.nextInt(240000) + ".g"
+                        + Long.toHexString(random.nextLong() & 0xFFFFFFFFFFFFL);
+            default:
+                return "dev." + skewed(random, 500) + ".build." + random.nextInt(100000) + ".pr-" + random
+                        .nextInt(10000) + ".sha-" + Long.toHexString(random.nextLong());
+        }
+    }
+
+    private static String build(Random random) {
+        switch (random.nextInt(3)) {
+            case 0:
+                return Integer.toString(random.nextInt(100000));
+            case 1:
+                return "exp.sha." + Integer.toHexString(random.nextInt());
+            default:
+                return "build-" + random.nextInt(10000) + "." + (20200101 + random.nextInt(40000));
+        }
+    }
+
+    /**
+     * Small numbers are a lot more frequent than large ones.
+     */
+    private static int skewed(Random random, int bound) {
+        var r = random.nextDouble();
+        return (int) (r * r * r * bound);
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Bump;
+import com.github.musk.semver.Semver;
+import com.github.musk.semver.SemverRewriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bumps the versions of the packages {@code 1.4.x} in a generated {@code package-lock.json} like file, with a
+ * {@link SemverRewriter} and by reading the whole file into a string, replacing the versions found by a regex and
+ * writing the string back. Scores are per file; {@link #main(String[])} writes a file of a given size for runs
+ * outside of JMH.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class RewriteBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("[0-9A-Za-z.+-]+");
+
+    @Param("64")
+    public int megabytes;
+
+    private Path directory;
+    private Path source;
+    private Path target;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("rewrite");
+        source = directory.resolve("package-lock.json");
+        target = directory.resolve("rewritten.json");
+        write(source, megabytes * (1L << 20));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(target);
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public long rewriter() throws IOException {
+        return SemverRewriter.of(Bump.PATCH).filter(RewriteBenchmark::selected).rewrite(source, target);
+    }
+
+    @Benchmark
+    public long readReplaceWrite() throws IOException {
+        var content = Files.readString(source, StandardCharsets.UTF_8);
+        var matcher = TOKEN.matcher(content);
+        var result = new StringBuilder(content.length());
+        var count = 0L;
+        while (matcher.find()) {
+            var version = Semver.tryParse(matcher.group());
+            if (version.isPresent() && selected(version.get())) {
+                matcher.appendReplacement(result, version.get().patch().toString());
+                count++;
+            }
+        }
+        matcher.appendTail(result);
+        Files.writeString(target, result, StandardCharsets.UTF_8);
+        return count;
+    }
+
+    private static boolean selected(Semver version) {
+        return version.getMajor() == 1 && version.getMinor() == 4;
+    }
+
+    /**
+     * Writes a lock file of about {@code size} bytes with registry versions, tarball URLs and integrity hashes.
+     */
+    static void write(Path file, long size) throws IOException {
+        var random = new Random(42);
+        var versions = RegistryCorpus.versions(4096);
+        var hash = new byte[64];
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"lockfileVersion\": 3,\n  \"packages\": {\n");
+            var written = 0L;
+            for (var i = 0; written < size; i++) {
+                var name = "pkg-" + random.nextInt(100_000);
+                var version = versions[i & (versions.length - 1)];
+                random.nextBytes(hash);
+                var entry = "    \"node_modules/" + name + "\": {\n"
+                        + "      \"version\": \"" + version + "\",\n"
+                        + "      \"resolved\": \"https://registry.npmjs.org/" + name + "/-/" + name + "-" + version
+                        + ".tgz\",\n"
+                        + "      \"integrity\": \"sha512-" + Base64.getEncoder().encodeToString(hash) + "\"\n"
+                        + "    },\n";
+                writer.write(entry);
+                written += entry.length();
+            }
+            writer.write("  }\n}\n");
+        }
+    }
+
+    /**
+     * Writes a lock file of {@code args[1]} megabytes to {@code args[0]}.
+     */
+    public static void main(String[] args) throws IOException {
+        write(Path.of(args[0]), Long.parseLong(args[1]) << 20);
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.musk.semver.benchmarks;
+
+import com.github.musk.semver.Semver;
+import com.github.musk.semver.SemverSort;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sorting registry versions with {@link SemverSort#parallelSort(Semver[])} and with
+ * {@link Arrays#parallelSort(Comparable[])}. Scores are per sort of the whole array.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class SortBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private Semver[] versions;
+    private Semver[] work;
+
+    @Setup
+    public void setup() {
+        versions = CompareBenchmark.parse(RegistryCorpus.versions(size));
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        work = versions.clone();
+    }
+
+    @Benchmark
+    public Semver[] semverParallelSort() {
+        SemverSort.parallelSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public Semver[] arraysParallelSort() {
+        Arrays.parallelSort(work);
+        return work;
+    }
+}
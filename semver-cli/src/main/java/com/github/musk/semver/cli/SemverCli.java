@@ -0,0 +1,343 @@
+package com.github.musk.semver.cli;
+
+import com.github.musk.semver.Semver;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command line interface with the commands of the bash <a href="https://github.com/fsaintjacques/semver-tool/">
+ * semver-tool</a>, plus a batch mode that processes one line of standard input after the other, so that scripts do
+ * not have to start a JVM per version.
+ */
+public final class SemverCli {
+
+    static final int OK = 0;
+    static final int ERROR = 1;
+
+    private static final String USAGE = String.join("\n",
+            "Usage:",
+            "  semver bump (major|minor|patch|release|prerel <prerel>|build <build>) <version>",
+            "  semver compare <version> <other_version>",
+            "  semver diff <version> <other_version>",
+            "  semver get (major|minor|patch|release|prerel|build) <version>",
+            "  semver validate <version>",
+            "  semver batch [<command> [<argument>...]]",
+            "  semver --help",
+            "  semver --version",
+            "",
+            "Arguments:",
+            "  <version>  A version must match the following regular expression:",
+            "             \"^[vV]?(0|[1-9][0-9]*)\\.(0|[1-9][0-9]*)\\.(0|[1-9][0-9]*)"
+                    + "(\\-(0|[1-9][0-9]*|[0-9]*[A-Za-z-][0-9A-Za-z-]*)"
+                    + "(\\.(0|[1-9][0-9]*|[0-9]*[A-Za-z-][0-9A-Za-z-]*))*)?(\\+[0-9A-Za-z-]+(\\.[0-9A-Za-z-]+)*)?$\"",
+            "             In English:",
+            "             -- The version must match X.Y.Z[-PRERELEASE][+BUILD]",
+            "                where X, Y and Z are non-negative integers.",
+            "             -- PRERELEASE is a dot separated sequence of non-negative integers and/or",
+            "                identifiers composed of alphanumeric characters and hyphens (with",
+            "                at least one non-digit). Numeric identifiers must not have leading",
+            "                zeros. A hyphen (\"-\") introduces this optional part.",
+            "             -- BUILD is a dot separated sequence of identifiers composed of alphanumeric",
+            "                characters and hyphens. A plus (\"+\") introduces this optional part.",
+            "",
+            "  <other_version>  See <version> definition.",
+            "",
+            "  <prerel>  A string as defined by PRERELEASE above.",
+            "",
+            "  <build>   A string as defined by BUILD above.",
+            "",
+            "Options:",
+            "  -v, --version          Print the version of this tool.",
+            "  -h, --help             Print this help message.",
+            "",
+            "Commands:",
+            "  bump     Bump by one of major, minor, patch; zeroing or removing",
+            "           subsequent parts. \"bump prerel\" sets the PRERELEASE part and",
+            "           removes any BUILD part. \"bump build\" sets the BUILD part.",
+            "           \"bump release\" removes any PRERELEASE or BUILD parts.",
+            "           The bumped version is written to stdout.",
+            "",
+            "  compare  Compare <version> with <other_version>, output to stdout the",
+            "           following values: -1 if <other_version> is newer, 0 if equal, 1 if",
+            "           older. The BUILD part is not used in comparisons.",
+            "",
+            "  diff     Compare <version> with <other_version>, output to stdout the",
+            "           difference between two versions by the release type (MAJOR, MINOR,",
+            "           PATCH, PRERELEASE, BUILD).",
+            "",
+            "  get      Extract given part of <version>, where part is one of major, minor,",
+            "           patch, prerel, build, or release.",
+            "",
+            "  validate Validate if <version> follows the SEMVER pattern (see <version>",
+            "           definition). Print 'valid' to stdout if the version is valid, otherwise",
+            "           print 'invalid'.",
+            "",
+            "  batch    Read lines from stdin and write one result line per input line to",
+            "           stdout. Each line holds the arguments of a command, appended to the",
+            "           optional <command> and <argument>s, e.g. \"semver batch bump minor\"",
+            "           reads one version per line. A failing line writes an empty line to",
+            "           stdout and the error with its line number to stderr.",
+            "",
+            "See https://semver.org for more information.");
+
+    private SemverCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        var status = run(args, System.in, System.out, System.err);
+        if (status != OK) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs the command given by {@code args}.
+     *
+     * @return the exit status
+     */
+    static int run(String[] args, InputStream in, OutputStream out, PrintStream err) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        try {
+            if (args.length == 0) {
+                err.println(USAGE);
+                return ERROR;
+            }
+            switch (args[0]) {
+                case "-h":
+                case "--help":
+                    writer.write(USAGE);
+                    writer.write('\n');
+                    return OK;
+                case "-v":
+                case "--version":
+                    var version = SemverCli.class.getPackage().getImplementationVersion();
+                    writer.write("semver: " + (version != null ? version : "unknown"));
+                    writer.write('\n');
+                    return OK;
+                case "batch":
+                    return batch(Arrays.copyOfRange(args, 1, args.length), in, writer, err);
+                default:
+                    writer.write(execute(args));
+                    writer.write('\n');
+                    return OK;
+            }
+        } catch (UsageException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return ERROR;
+        } catch (InvalidVersionException e) {
+            err.println(e.getMessage());
+            return ERROR;
+        } finally {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Executes a command for every line of {@code in}, prefixing the arguments of the line with {@code prefix}.
+     * Output is flushed whenever no more input is available, so the CLI can also be driven line by line through a
+     * pipe.
+     */
+    private static int batch(String[] prefix, InputStream in, Writer out, PrintStream err) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        var arguments = new ArrayList<String>();
+        var status = OK;
+        var lineNumber = 0L;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            arguments.clear();
+            arguments.addAll(Arrays.asList(prefix));
+            split(line, arguments);
+            if (arguments.isEmpty()) {
+                out.write('\n');
+                continue;
+            }
+            try {
+                out.write(execute(arguments.toArray(new String[0])));
+            } catch (UsageException | InvalidVersionException e) {
+                err.println("line " + lineNumber + ": " + e.getMessage());
+                status = ERROR;
+            }
+            out.write('\n');
+            if (!reader.ready()) {
+                out.flush();
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Splits a line at whitespace. Avoids {@link String#split(String)}, which compiles a pattern for anything but
+     * single characters.
+     */
+    private static void split(String line, List<String> arguments) {
+        var start = -1;
+        for (var i = 0; i <= line.length(); i++) {
+            var separator = i == line.length() || Character.isWhitespace(line.charAt(i));
+            if (separator && start >= 0) {
+                arguments.add(line.substring(start, i));
+                start = -1;
+            } else if (!separator && start < 0) {
+                start = i;
+            }
+        }
+    }
+
+    static String execute(String[] args) throws UsageException, InvalidVersionException {
+        switch (args[0]) {
+            case "bump":
+                return bump(args);
+            case "get":
+                return get(args);
+            case "compare":
+                expectArguments(args, 3);
+                var result = withoutBuild(parse(args[1])).compareTo(withoutBuild(parse(args[2])));
+                return Integer.toString(Integer.signum(result));
+            case "diff":
+                expectArguments(args, 3);
+                return diff(parse(args[1]), parse(args[2]));
+            case "validate":
+                expectArguments(args, 2);
+                return Semver.validate(args[1]) ? "valid" : "invalid";
+            default:
+                throw new UsageException("Unknown command '" + args[0] + "'");
+        }
+    }
+
+    private static String bump(String[] args) throws UsageException, InvalidVersionException {
+        if (args.length < 2) {
+            throw new UsageException("Missing part to bump");
+        }
+        switch (args[1]) {
+            case "major":
+                expectArguments(args, 3);
+                return parse(args[2]).major().toString();
+            case "minor":
+                expectArguments(args, 3);
+                return parse(args[2]).minor().toString();
+            case "patch":
+                expectArguments(args, 3);
+                return parse(args[2]).patch().toString();
+            case "release":
+                expectArguments(args, 3);
+                return parse(args[2]).release().toString();
+            case "prerel":
+                expectArguments(args, 4);
+                return withIdentifiers(parse(args[3]), args[2], true).toString();
+            case "build":
+                expectArguments(args, 4);
+                return withIdentifiers(parse(args[3]), args[2], false).toString();
+            default:
+                throw new UsageException("Unknown part '" + args[1] + "'");
+        }
+    }
+
+    private static String get(String[] args) throws UsageException, InvalidVersionException {
+        expectArguments(args, 3);
+        var version = parse(args[2]);
+        switch (args[1]) {
+            case "major":
+                return version.getMajorBigInteger().toString();
+            case "minor":
+                return version.getMinorBigInteger().toString();
+            case "patch":
+                return version.getPatchBigInteger().toString();
+            case "release":
+                return version.release().toString();
+            case "prerel":
+                return version.getPrerel() != null ? version.getPrerel() : "";
+            case "build":
+                return version.getBuild() != null ? version.getBuild() : "";
+            default:
+                throw new UsageException("Unknown part '" + args[1] + "'");
+        }
+    }
+
+    private static String diff(Semver version, Semver other) {
+        if (!version.getMajorBigInteger().equals(other.getMajorBigInteger())) {
+            return "major";
+        } else if (!version.getMinorBigInteger().equals(other.getMinorBigInteger())) {
+            return "minor";
+        } else if (!version.getPatchBigInteger().equals(other.getPatchBigInteger())) {
+            return "patch";
+        } else if (!same(version.getPrerel(), other.getPrerel())) {
+            return "prerelease";
+        } else if (!same(version.getBuild(), other.getBuild())) {
+            return "build";
+        }
+        return "";
+    }
+
+    private static boolean same(String value, String other) {
+        return value == null ? other == null : value.equals(other);
+    }
+
+    /**
+     * Sets the prerelease, removing the build metadata, or sets the build metadata.
+     */
+    private static Semver withIdentifiers(Semver version, String identifiers, boolean prerelease)
+            throws InvalidVersionException {
+        try {
+            return prerelease ? version.prerel(identifiers) : version.build(identifiers);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidVersionException((prerelease ? "prerel " : "build ") + identifiers
+                    + " does not match the semver scheme '" + (prerelease ? "PRERELEASE" : "BUILD") + "'.");
+        }
+    }
+
+    private static Semver withoutBuild(Semver version) {
+        return version.getBuild() == null ? version : version.build(null);
+    }
+
+    private static Semver parse(String version) throws InvalidVersionException {
+        var parsed = Semver.tryParse(version);
+        if (parsed.isEmpty()) {
+            throw new InvalidVersionException("version " + version
+                    + " does not match the semver scheme 'X.Y.Z(-PRERELEASE)(+BUILD)'. See help for more information.");
+        }
+        return parsed.get();
+    }
+
+    private static void expectArguments(String[] args, int count) throws UsageException {
+        if (args.length != count) {
+            throw new UsageException("Expected " + (count - 1) + " arguments for '" + args[0] + "' but got "
+                    + (args.length - 1));
+        }
+    }
+
+    /**
+     * The command line does not match the usage.
+     */
+    static final class UsageException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        UsageException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * A version, prerelease or build argument is not valid.
+     */
+    static final class InvalidVersionException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        InvalidVersionException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.musk.semver.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SemverCliTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "bump major 1.2.3-rc.1+build             | 2.0.0",
+            "bump minor v1.2.3                       | 1.3.0",
+            "bump patch 1.2.3-rc.1                   | 1.2.4",
+            "bump release 1.2.3-rc.1+build           | 1.2.3",
+            "bump prerel rc.2 1.2.3-rc.1+build       | 1.2.3-rc.2",
+            "bump build b.7 1.2.3-rc.1+build         | 1.2.3-rc.1+b.7",
+            "get major 1.2.3-rc.1+build              | 1",
+            "get minor 1.2.3-rc.1+build              | 2",
+            "get patch 1.2.3-rc.1+build              | 3",
+            "get release 1.2.3-rc.1+build            | 1.2.3",
+            "get prerel 1.2.3-rc.1+build             | rc.1",
+            "get build 1.2.3-rc.1+build              | build",
+            "get prerel 1.2.3                        | ''",
+            "compare 1.2.3 1.2.4                     | -1",
+            "compare 1.2.3+a 1.2.3+b                 | 0",
+            "compare 1.2.3 1.2.3-rc.1                | 1",
+            "diff 1.2.3 2.2.3                        | major",
+            "diff 1.2.3 1.3.3                        | minor",
+            "diff 1.2.3 1.2.4                        | patch",
+            "diff 1.2.3-rc.1 1.2.3                   | prerelease",
+            "diff 1.2.3+a 1.2.3+b                    | build",
+            "diff v1.2.3 1.2.3                       | ''",
+            "validate 1.2.3                          | valid",
+            "validate 1.2                            | invalid"})
+    @DisplayName("Commands write their result")
+    void commandsWriteTheirResult(String command, String expected) throws IOException {
+        assertEquals(SemverCli.OK, run(command.trim().split(" "), ""));
+        assertEquals(expected + "\n", output());
+        assertEquals("", error());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "bump minor 1.2                  | version 1.2 does not match the semver scheme "
+                    + "'X.Y.Z(-PRERELEASE)(+BUILD)'. See help for more information.",
+            "bump prerel rc..1 1.2.3         | prerel rc..1 does not match the semver scheme 'PRERELEASE'.",
+            "bump build b_1 1.2.3            | build b_1 does not match the semver scheme 'BUILD'.",
+            "compare 1.2.3 latest            | version latest does not match the semver scheme "
+                    + "'X.Y.Z(-PRERELEASE)(+BUILD)'. See help for more information."})
+    @DisplayName("Invalid versions are reported")
+    void invalidVersionsAreReported(String command, String expected) throws IOException {
+        assertEquals(SemverCli.ERROR, run(command.trim().split(" "), ""));
+        assertEquals("", output());
+        assertEquals(expected + "\n", error());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "bump                    | Missing part to bump",
+            "bump minor              | Expected 2 arguments for 'bump' but got 1",
+            "bump feature 1.2.3      | Unknown part 'feature'",
+            "get feature 1.2.3       | Unknown part 'feature'",
+            "compare 1.2.3           | Expected 2 arguments for 'compare' but got 1",
+            "release 1.2.3           | Unknown command 'release'"})
+    @DisplayName("Usage errors print the usage")
+    void usageErrorsPrintTheUsage(String command, String expected) throws IOException {
+        assertEquals(SemverCli.ERROR, run(command.trim().split(" "), ""));
+        assertEquals("", output());
+        assertTrue(error().startsWith(expected + "\nUsage:\n"), error());
+    }
+
+    @Test
+    @DisplayName("Help and version")
+    void helpAndVersion() throws IOException {
+        assertEquals(SemverCli.OK, run(new String[]{"--help"}, ""));
+        assertTrue(output().startsWith("Usage:\n  semver bump"));
+        out.reset();
+        assertEquals(SemverCli.OK, run(new String[]{"-v"}, ""));
+        assertTrue(output().startsWith("semver: "));
+        assertEquals(SemverCli.ERROR, run(new String[0], ""));
+        assertTrue(error().startsWith("Usage:\n"));
+    }
+
+    @Test
+    @DisplayName("Batch executes a command per line")
+    void batchExecutesACommandPerLine() throws IOException {
+        var input = "bump minor 1.2.3\n  get   prerel 1.2.3-rc.1 \r\n\nvalidate x\ncompare 2.0.0 1.0.0";
+        assertEquals(SemverCli.OK, run(new String[]{"batch"}, input));
+        assertEquals("1.3.0\nrc.1\n\ninvalid\n1\n", output());
+        assertEquals("", error());
+    }
+
+    @Test
+    @DisplayName("Batch prefixes every line with the arguments")
+    void batchPrefixesEveryLineWithTheArguments() throws IOException {
+        var input = "1.2.3\nlatest\n2.0.0-rc.1+build\n";
+        assertEquals(SemverCli.ERROR, run(new String[]{"batch", "bump", "minor"}, input));
+        assertEquals("1.3.0\n\n2.1.0\n", output());
+        assertEquals("line 2: version latest does not match the semver scheme 'X.Y.Z(-PRERELEASE)(+BUILD)'. "
+                + "See help for more information.\n", error());
+    }
+
+    @Test
+    @DisplayName("Batch reports usage errors per line")
+    void batchReportsUsageErrorsPerLine() throws IOException {
+        assertEquals(SemverCli.ERROR, run(new String[]{"batch", "diff", "1.2.3"}, "1.2.4\n1.2.4 1.2.5\n"));
+        assertEquals("patch\n\n", output());
+        assertEquals("line 2: Expected 2 arguments for 'diff' but got 3\n", error());
+    }
+
+    private int run(String[] args, String input) throws IOException {
+        var in = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+        return SemverCli.run(args, in, out, new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private String output() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String error() {
+        return err.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.musk.semver;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read only {@link CharSequence} view of a region of ASCII bytes. Bytes are mapped one to one to chars, so anything
+ * outside of ASCII can never be part of a valid version.
+ */
+final class AsciiSequence implements CharSequence {
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    AsciiSequence(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (bytes[offset + index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new AsciiSequence(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
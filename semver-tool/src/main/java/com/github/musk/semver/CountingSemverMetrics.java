@@ -0,0 +1,107 @@
+package com.github.musk.semver;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link SemverMetrics} that counts all calls. The counters are {@link LongAdder}s, so concurrent increments from many
+ * threads do not contend on a single memory location. Enable it with
+ * {@code -Dcom.github.musk.semver.metrics=com.github.musk.semver.CountingSemverMetrics} and read the counts from
+ * {@code (CountingSemverMetrics) SemverMetrics.installed()}.
+ */
+public final class CountingSemverMetrics implements SemverMetrics {
+
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder parseFailures = new LongAdder();
+    private final LongAdder validations = new LongAdder();
+    private final LongAdder validationFailures = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder[] bumps = new LongAdder[Bump.values().length];
+
+    public CountingSemverMetrics() {
+        for (var i = 0; i < bumps.length; i++) {
+            bumps[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void parsed(boolean valid) {
+        parses.increment();
+        if (!valid) {
+            parseFailures.increment();
+        }
+    }
+
+    @Override
+    public void validated(boolean valid) {
+        validations.increment();
+        if (!valid) {
+            validationFailures.increment();
+        }
+    }
+
+    @Override
+    public void compared() {
+        comparisons.increment();
+    }
+
+    @Override
+    public void bumped(Bump bump) {
+        bumps[bump.ordinal()].increment();
+    }
+
+    /**
+     * @return number of parsed inputs, including the invalid ones
+     */
+    public long parseCount() {
+        return parses.sum();
+    }
+
+    /**
+     * @return number of parsed inputs that were not semantic versions
+     */
+    public long parseFailureCount() {
+        return parseFailures.sum();
+    }
+
+    /**
+     * @return number of validated inputs, including the invalid ones
+     */
+    public long validateCount() {
+        return validations.sum();
+    }
+
+    /**
+     * @return number of validated inputs that were not semantic versions
+     */
+    public long validateFailureCount() {
+        return validationFailures.sum();
+    }
+
+    /**
+     * @return number of comparisons
+     */
+    public long compareCount() {
+        return comparisons.sum();
+    }
+
+    /**
+     * @return number of bumps of the given kind
+     */
+    public long bumpCount(Bump bump) {
+        return bumps[bump.ordinal()].sum();
+    }
+
+    /**
+     * Sets all counters to zero. Calls that happen concurrently may or may not be counted.
+     */
+    public void reset() {
+        parses.reset();
+        parseFailures.reset();
+        validations.reset();
+        validationFailures.reset();
+        comparisons.reset();
+        for (var bump : bumps) {
+            bump.reset();
+        }
+    }
+}
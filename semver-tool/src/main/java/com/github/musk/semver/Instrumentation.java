@@ -0,0 +1,126 @@
+package com.github.musk.semver;
+
+import java.util.ServiceLoader;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Hooks for {@link SemverMetrics} and JDK Flight Recorder events on the hot paths of {@link Semver}.
+ * <p>
+ * Flight Recorder records a {@code com.github.musk.semver.ParseFailure} event for every input that is not a semantic
+ * version and a {@code com.github.musk.semver.Parse} event for every parse that takes longer than the threshold, 20
+ * microseconds by default. Without a running recording, this costs one check of a flag per parse and no event is
+ * created. The events are only used by a nested holder class, so that runtimes without the {@code jdk.jfr} module
+ * never load them.
+ * <p>
+ * The {@link SemverMetrics} implementation is looked up by a holder class as well, the first time it is used, so that
+ * loading {@link Semver} does not scan the class path for providers.
+ */
+final class Instrumentation {
+
+    private static final boolean FLIGHT_RECORDER = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+    private static final int MAX_INPUT_LENGTH = 256;
+
+    private Instrumentation() {
+    }
+
+    /**
+     * @return the {@link SemverMetrics} implementation in use
+     */
+    static SemverMetrics metrics() {
+        return Metrics.INSTALLED;
+    }
+
+    /**
+     * Parses {@code version} with {@code parser} and reports it to Flight Recorder and {@link #metrics()}.
+     */
+    static boolean parse(SemverParser parser, CharSequence version) {
+        var valid = FLIGHT_RECORDER ? Events.parse(parser, version) : parser.parse(version);
+        Metrics.INSTALLED.parsed(valid);
+        return valid;
+    }
+
+    private static SemverMetrics loadMetrics() {
+        var provider = System.getProperty(SemverMetrics.PROVIDER_PROPERTY);
+        if (provider != null) {
+            try {
+                var type = Class.forName(provider, true, Instrumentation.class.getClassLoader());
+                return (SemverMetrics) type.getConstructor().newInstance();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new IllegalArgumentException("Invalid semver metrics provider '" + provider + "'", e);
+            }
+        }
+        return ServiceLoader.load(SemverMetrics.class).findFirst().orElse(SemverMetrics.NOOP);
+    }
+
+    private static String abbreviate(CharSequence input) {
+        return input.length() <= MAX_INPUT_LENGTH ? input.toString()
+                : input.subSequence(0, MAX_INPUT_LENGTH) + "...";
+    }
+
+    private static final class Metrics {
+
+        static final SemverMetrics INSTALLED = loadMetrics();
+    }
+
+    private static final class Events {
+
+        private static final EventType PARSE = EventType.getEventType(ParseEvent.class);
+        private static final EventType PARSE_FAILURE = EventType.getEventType(ParseFailureEvent.class);
+
+        static boolean parse(SemverParser parser, CharSequence version) {
+            boolean valid;
+            // only create events while a recording enables them
+            if (PARSE.isEnabled()) {
+                var event = new ParseEvent();
+                event.begin();
+                valid = parser.parse(version);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.input = abbreviate(version);
+                    event.valid = valid;
+                    event.commit();
+                }
+            } else {
+                valid = parser.parse(version);
+            }
+            if (!valid && PARSE_FAILURE.isEnabled()) {
+                var failure = new ParseFailureEvent();
+                failure.input = abbreviate(version);
+                failure.commit();
+            }
+            return valid;
+        }
+    }
+
+    @Name("com.github.musk.semver.Parse")
+    @Label("Slow Semantic Version Parse")
+    @Category("Semantic Versioning")
+    @Description("Parse of a semantic version that took longer than the threshold")
+    @Threshold("20 us")
+    @StackTrace(false)
+    static final class ParseEvent extends Event {
+
+        @Label("Input")
+        String input;
+
+        @Label("Valid")
+        boolean valid;
+    }
+
+    @Name("com.github.musk.semver.ParseFailure")
+    @Label("Semantic Version Parse Failure")
+    @Category("Semantic Versioning")
+    @Description("Input that is not a semantic version, the first 256 characters")
+    static final class ParseFailureEvent extends Event {
+
+        @Label("Input")
+        String input;
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.musk.semver;
+
+/**
+ * Compact, pre-tokenized form of a prerelease.
+ * <p>
+ * Every dot separated identifier is encoded into one {@code long}:
+ * <ul>
+ * <li>numeric identifiers with up to 18 digits are stored as their (non negative) value</li>
+ * <li>all other identifiers are stored as the bitwise complement of their start and end index in the prerelease
+ * string, plus a flag for numeric identifiers that are too large for a {@code long}</li>
+ * </ul>
+ * This allows comparing two prereleases without splitting or parsing them again.
+ */
+final class PrereleaseIdentifiers {
+
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final long LARGE_NUMBER = 1L << 31;
+    private static final long END_MASK = LARGE_NUMBER - 1;
+
+    private PrereleaseIdentifiers() {
+    }
+
+    /**
+     * @param prerel a valid prerelease
+     * @return the encoded identifiers of {@code prerel} or {@code null} if {@code prerel} is {@code null}
+     */
+    static long[] tokenize(String prerel) {
+        if (prerel == null) {
+            return null;
+        }
+        var count = 1;
+        for (var i = 0; i < prerel.length(); i++) {
+            if (prerel.charAt(i) == '.') {
+                count++;
+            }
+        }
+        var identifiers = new long[count];
+        var start = 0;
+        for (var i = 0; i < count; i++) {
+            var end = prerel.indexOf('.', start);
+            if (end < 0) {
+                end = prerel.length();
+            }
+            identifiers[i] = encode(prerel, start, end);
+            start = end + 1;
+        }
+        return identifiers;
+    }
+
+    private static long encode(String prerel, int start, int end) {
+        var value = 0L;
+        for (var i = start; i < end; i++) {
+            var c = prerel.charAt(i);
+            if (!SemverParser.isDigit(c)) {
+                return ~(((long) start << 32) | end);
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (end - start > MAX_LONG_DIGITS) {
+            return ~(((long) start << 32) | LARGE_NUMBER | end);
+        }
+        return value;
+    }
+
+    /**
+     * Compares two prereleases by semver precedence.
+     */
+    static int compare(String left, long[] leftIdentifiers, String right, long[] rightIdentifiers) {
+        // Precedence for two pre-release versions with the same major, minor, and patch version MUST be determined
+        // by comparing each dot separated identifier from left to right until a difference is found
+        var common = Math.min(leftIdentifiers.length, rightIdentifiers.length);
+        for (var i = 0; i < common; i++) {
+            var result = compare(left, leftIdentifiers[i], right, rightIdentifiers[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        // A larger set of pre-release fields has a higher precedence than a smaller set,
+        // if all of the preceding identifiers are equal.
+        return Integer.compare(leftIdentifiers.length, rightIdentifiers.length);
+    }
+
+    /**
+     * Compares two prereleases by semver precedence, without tokenizing them first.
+     *
+     * @param left       character sequence holding the first prerelease
+     * @param leftStart  start index of the first prerelease in {@code left}
+     * @param leftEnd    end index (exclusive) of the first prerelease in {@code left}
+     * @param right      character sequence holding the second prerelease
+     * @param rightStart start index of the second prerelease in {@code right}
+     * @param rightEnd   end index (exclusive) of the second prerelease in {@code right}
+     */
+    static int compare(CharSequence left, int leftStart, int leftEnd, CharSequence right, int rightStart,
+            int rightEnd) {
+        while (true) {
+            var leftIdentifierEnd = identifierEnd(left, leftStart, leftEnd);
+            var rightIdentifierEnd = identifierEnd(right, rightStart, rightEnd);
+            var leftNumeric = isNumeric(left, leftStart, leftIdentifierEnd);
+            var rightNumeric = isNumeric(right, rightStart, rightIdentifierEnd);
+            int result;
+            if (leftNumeric != rightNumeric) {
+                result = leftNumeric ? -1 : 1;
+            } else if (leftNumeric && leftIdentifierEnd - leftStart != rightIdentifierEnd - rightStart) {
+                result = Integer.compare(leftIdentifierEnd - leftStart, rightIdentifierEnd - rightStart);
+            } else {
+                result = compareText(left, leftStart, leftIdentifierEnd, right, rightStart, rightIdentifierEnd);
+            }
+            if (result != 0) {
+                return result;
+            } else if (leftIdentifierEnd == leftEnd || rightIdentifierEnd == rightEnd) {
+                return Boolean.compare(leftIdentifierEnd != leftEnd, rightIdentifierEnd != rightEnd);
+            }
+            leftStart = leftIdentifierEnd + 1;
+            rightStart = rightIdentifierEnd + 1;
+        }
+    }
+
+    private static int identifierEnd(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) != '.') {
+            start++;
+        }
+        return start;
+    }
+
+    private static boolean isNumeric(CharSequence text, int start, int end) {
+        for (var i = start; i < end; i++) {
+            if (!SemverParser.isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int compareText(CharSequence left, int leftStart, int leftEnd, CharSequence right, int rightStart,
+            int rightEnd) {
+        var length = Math.min(leftEnd - leftStart, rightEnd - rightStart);
+        for (var i = 0; i < length; i++) {
+            var c1 = left.charAt(leftStart + i);
+            var c2 = right.charAt(rightStart + i);
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return (leftEnd - leftStart) - (rightEnd - rightStart);
+    }
+
+    private static int compare(String left, long l, String right, long r) {
+        // identifiers consisting of only digits are compared numerically and
+        // numeric identifiers always have lower precedence than non-numeric identifiers.
+        if (l >= 0) {
+            return r >= 0 ? Long.compare(l, r) : -1;
+        } else if (r >= 0) {
+            return 1;
+        }
+        l = ~l;
+        r = ~r;
+        var leftStart = (int) (l >>> 32);
+        var leftEnd = (int) (l & END_MASK);
+        var rightStart = (int) (r >>> 32);
+        var rightEnd = (int) (r & END_MASK);
+        var leftLarge = (l & LARGE_NUMBER) != 0;
+        if (leftLarge != ((r & LARGE_NUMBER) != 0)) {
+            return leftLarge ? -1 : 1;
+        } else if (leftLarge && leftEnd - leftStart != rightEnd - rightStart) {
+            // no leading zeros, so the longer number is the larger one
+            return Integer.compare(leftEnd - leftStart, rightEnd - rightStart);
+        }
+        // identifiers with letters or hyphens are compared lexically in ASCII sort order.
+        return compareText(left, leftStart, leftEnd, right, rightStart, rightEnd);
+    }
+}
@@ -0,0 +1,705 @@
+package com.github.musk.semver;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public class Semver implements Comparable<Semver>, Serializable {
+
+    final long majorVersion;
+    final long minorVersion;
+    final long patchVersion;
+    /**
+     * major, minor and patch version if one of them does not fit into a {@code long} and its field is
+     * {@link SemverParser#OVERSIZED}, otherwise {@code null}
+     */
+    final BigInteger[] bigCore;
+    private final String prerelVersion;
+    private final String buildVersion;
+    private final long[] prerelIdentifiers;
+    /** cached hash code, like {@code String.hash} racy but safe, as every thread computes the same value */
+    private transient int hash;
+    private transient boolean hashIsZero;
+    /** cached {@link #text()}, safe to publish without synchronization as {@code String} is immutable */
+    private transient String text;
+
+    public Semver(String version) {
+        this(parsed(version));
+    }
+
+    Semver(SemverParser parsed) {
+        this(parsed.major, parsed.minor, parsed.patch, parsed.prerel(), parsed.build(), parsed.bigCore());
+    }
+
+    Semver(long major, long minor, long patch, String prerel, String build) {
+        this(major, minor, patch, prerel, build, (BigInteger[]) null);
+    }
+
+    private Semver(long major, long minor, long patch, String prerel, String build, BigInteger[] bigCore) {
+        this(major, minor, patch, prerel, build, PrereleaseIdentifiers.tokenize(prerel), bigCore);
+    }
+
+    private Semver(long major, long minor, long patch, String prerel, String build, long[] prerelIdentifiers,
+            BigInteger[] bigCore) {
+        this.majorVersion = major;
+        this.minorVersion = minor;
+        this.patchVersion = patch;
+        this.bigCore = bigCore;
+        this.prerelVersion = prerel;
+        this.buildVersion = build;
+        this.prerelIdentifiers = prerelIdentifiers;
+    }
+
+    /**
+     * @return a version of non negative numbers of any size
+     */
+    static Semver of(BigInteger major, BigInteger minor, BigInteger patch, String prerel, String build) {
+        if (major.bitLength() < Long.SIZE && minor.bitLength() < Long.SIZE && patch.bitLength() < Long.SIZE) {
+            return new Semver(major.longValue(), minor.longValue(), patch.longValue(), prerel, build);
+        }
+        return new Semver(longValue(major), longValue(minor), longValue(patch), prerel, build,
+                new BigInteger[]{major, minor, patch});
+    }
+
+    private static long longValue(BigInteger number) {
+        return number.bitLength() < Long.SIZE ? number.longValue() : SemverParser.OVERSIZED;
+    }
+
+    public static Semver parse(String version) throws IllegalArgumentException {
+        return tryParse(version).orElseThrow(() -> invalidVersion(version));
+    }
+
+    public static Semver parse(CharSequence version) throws IllegalArgumentException {
+        return tryParse(version).orElseThrow(() -> invalidVersion(version));
+    }
+
+    /**
+     * Parses a version from ASCII (or UTF-8) encoded bytes without decoding them into a string first. Only the
+     * prerelease and build are copied out of {@code buf}.
+     *
+     * @param buf the bytes holding the version
+     * @param off start of the version in {@code buf}
+     * @param len length of the version in bytes
+     */
+    public static Semver parse(byte[] buf, int off, int len) throws IllegalArgumentException {
+        return parse(ascii(buf, off, len));
+    }
+
+    /**
+     * Parses the version between position and limit of {@code buffer}, which must hold ASCII (or UTF-8) encoded
+     * bytes. The position of the buffer is not changed.
+     */
+    public static Semver parse(ByteBuffer buffer) throws IllegalArgumentException {
+        return parse(ascii(buffer));
+    }
+
+    /**
+     * Parses a version without throwing on invalid input.
+     *
+     * @param version the version to parse
+     * @return the parsed version or an empty optional if {@code version} is not a semantic version
+     */
+    public static Optional<Semver> tryParse(CharSequence version) {
+        var parser = new SemverParser();
+        return Instrumentation.parse(parser, version) ? Optional.of(new Semver(parser)) : Optional.empty();
+    }
+
+    private static SemverParser parsed(String version) {
+        var parser = new SemverParser();
+        if (!Instrumentation.parse(parser, version)) {
+            throw invalidVersion(version);
+        }
+        return parser;
+    }
+
+    private static IllegalArgumentException invalidVersion(CharSequence version) {
+        return new IllegalArgumentException("Invalid semantic version '" + version + "'");
+    }
+
+    public static Semver copy(Semver semver) {
+        return new Semver(semver.majorVersion, semver.minorVersion, semver.patchVersion, semver.prerelVersion,
+                semver.buildVersion, semver.prerelIdentifiers, semver.bigCore);
+    }
+
+    public static boolean validate(String version) {
+        return validate((CharSequence) version);
+    }
+
+    public static boolean validate(CharSequence version) {
+        var valid = new SemverParser().parse(version);
+        Instrumentation.metrics().validated(valid);
+        return valid;
+    }
+
+    /**
+     * @see #parse(byte[], int, int)
+     */
+    public static boolean validate(byte[] buf, int off, int len) {
+        return validate(ascii(buf, off, len));
+    }
+
+    /**
+     * @see #parse(ByteBuffer)
+     */
+    public static boolean validate(ByteBuffer buffer) {
+        return validate(ascii(buffer));
+    }
+
+    private static CharSequence ascii(byte[] buf, int off, int len) {
+        Objects.checkFromIndexSize(off, len, buf.length);
+        return new AsciiSequence(buf, off, len);
+    }
+
+    private static CharSequence ascii(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new AsciiSequence(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        // direct and read only buffers: a version is short, copy it instead of adding another CharSequence type to
+        // the parser's hot loop
+        var bytes = new byte[buffer.remaining()];
+        for (var i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(buffer.position() + i);
+        }
+        return new AsciiSequence(bytes, 0, bytes.length);
+    }
+
+    public Semver patch() {
+        return bump(Bump.PATCH);
+    }
+
+    public Semver minor() {
+        return bump(Bump.MINOR);
+    }
+
+    public Semver major() {
+        return bump(Bump.MAJOR);
+    }
+
+    public Semver prerel(String prerel) {
+        if (prerel != null && prerel.indexOf('+') >= 0) {
+            // build metadata after the prerelease, as accepted when the version text was parsed again
+            return parse(versionCore() + "-" + prerel);
+        }
+        return toBuilder().withBuild(null).withPrerel(prerel).build();
+    }
+
+    public Semver build(String build) {
+        return toBuilder().withBuild(build).build();
+    }
+
+    /**
+     * @return a builder for a new version, starting at {@code 0.0.0}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a builder for a new version, starting with the parts of this version
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public String text() {
+        var result = text;
+        if (result == null) {
+            result = versionCore() + opt(prerelVersion, "-") + opt(buildVersion, "+");
+            text = result;
+        }
+        return result;
+    }
+
+    /**
+     * Encodes this version as bytes whose unsigned lexicographic order, as in {@code Arrays.compareUnsigned}, is the
+     * order of {@link #compareTo(Semver)}, for key-value stores and sorters that can only compare bytes. Versions that
+     * only differ in their build metadata are ordered by it.
+     *
+     * @see #fromSortKey(byte[])
+     */
+    public byte[] toSortKey() {
+        var key = new byte[SortKeys.length(this)];
+        SortKeys.write(this, ByteBuffer.wrap(key));
+        return key;
+    }
+
+    /**
+     * Writes the {@link #toSortKey() sort key} of this version at the position of {@code buffer} and advances the
+     * position. Keys are self delimiting, so several keys can be written one after the other.
+     *
+     * @throws BufferOverflowException if the key does not fit into the remaining bytes of {@code buffer}
+     */
+    public void writeSortKey(ByteBuffer buffer) {
+        if (buffer.remaining() < SortKeys.length(this)) {
+            throw new BufferOverflowException();
+        }
+        SortKeys.write(this, buffer);
+    }
+
+    /**
+     * Decodes a version from its {@link #toSortKey() sort key}.
+     *
+     * @throws IllegalArgumentException if {@code key} is not a sort key
+     */
+    public static Semver fromSortKey(byte[] key) throws IllegalArgumentException {
+        var buffer = ByteBuffer.wrap(key);
+        var version = SortKeys.read(buffer);
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Invalid sort key");
+        }
+        return version;
+    }
+
+    /**
+     * Decodes the {@link #toSortKey() sort key} at the position of {@code buffer} and advances the position to the
+     * end of the key.
+     *
+     * @throws IllegalArgumentException if the bytes are not a sort key
+     */
+    public static Semver readSortKey(ByteBuffer buffer) throws IllegalArgumentException {
+        return SortKeys.read(buffer);
+    }
+
+    private static String opt(String value, String sep) {
+        return value != null && !value.isEmpty() ? (sep + value) : "";
+    }
+
+    public Semver release() {
+        return toBuilder().release().build();
+    }
+
+    /**
+     * @throws ArithmeticException if the major version does not fit into an {@code int}
+     * @see #getMajorLong()
+     */
+    public int getMajor() {
+        return Math.toIntExact(getMajorLong());
+    }
+
+    /**
+     * @throws ArithmeticException if the minor version does not fit into an {@code int}
+     * @see #getMinorLong()
+     */
+    public int getMinor() {
+        return Math.toIntExact(getMinorLong());
+    }
+
+    /**
+     * @throws ArithmeticException if the patch version does not fit into an {@code int}
+     * @see #getPatchLong()
+     */
+    public int getPatch() {
+        return Math.toIntExact(getPatchLong());
+    }
+
+    /**
+     * @throws ArithmeticException if the major version does not fit into a {@code long}
+     * @see #getMajorBigInteger()
+     */
+    public long getMajorLong() {
+        return exact(majorVersion);
+    }
+
+    /**
+     * @throws ArithmeticException if the minor version does not fit into a {@code long}
+     * @see #getMinorBigInteger()
+     */
+    public long getMinorLong() {
+        return exact(minorVersion);
+    }
+
+    /**
+     * @throws ArithmeticException if the patch version does not fit into a {@code long}
+     * @see #getPatchBigInteger()
+     */
+    public long getPatchLong() {
+        return exact(patchVersion);
+    }
+
+    public BigInteger getMajorBigInteger() {
+        return part(0);
+    }
+
+    public BigInteger getMinorBigInteger() {
+        return part(1);
+    }
+
+    public BigInteger getPatchBigInteger() {
+        return part(2);
+    }
+
+    private static long exact(long value) {
+        if (value == SemverParser.OVERSIZED) {
+            throw new ArithmeticException("Version number does not fit into a long");
+        }
+        return value;
+    }
+
+    /**
+     * @param index 0 for the major, 1 for the minor and 2 for the patch version
+     */
+    BigInteger part(int index) {
+        if (bigCore != null) {
+            return bigCore[index];
+        }
+        return BigInteger.valueOf(index == 0 ? majorVersion : index == 1 ? minorVersion : patchVersion);
+    }
+
+    public String getPrerel() {
+        return prerelVersion;
+    }
+
+    public String getBuild() {
+        return buildVersion;
+    }
+
+    @Override
+    public int compareTo(Semver v) {
+        Instrumentation.metrics().compared();
+        var result = comparePrecedence(v);
+        if (result != 0) {
+            return result;
+        }
+
+        if (buildVersion == null) {
+            if (v.buildVersion != null) {
+                return 1;
+            }
+        } else if (v.buildVersion == null) {
+            return -1;
+        }
+        return 0;
+    }
+
+    /**
+     * Compares the precedence of two versions as defined by the specification, i.e. without looking at the build
+     * metadata.
+     */
+    int comparePrecedence(Semver v) {
+        if (majorVersion != v.majorVersion || majorVersion < 0) {
+            var result = compareNumber(majorVersion, v.majorVersion, 0, v);
+            if (result != 0) {
+                return result;
+            }
+        }
+        if (minorVersion != v.minorVersion || minorVersion < 0) {
+            var result = compareNumber(minorVersion, v.minorVersion, 1, v);
+            if (result != 0) {
+                return result;
+            }
+        }
+        if (patchVersion != v.patchVersion || patchVersion < 0) {
+            var result = compareNumber(patchVersion, v.patchVersion, 2, v);
+            if (result != 0) {
+                return result;
+            }
+        }
+        if (!Objects.equals(prerelVersion, v.prerelVersion)) {
+            if (prerelVersion == null) {
+                return 1;
+            } else if (v.prerelVersion == null) {
+                return -1;
+            }
+            return PrereleaseIdentifiers.compare(prerelVersion, prerelIdentifiers, v.prerelVersion,
+                    v.prerelIdentifiers);
+        }
+        return 0;
+    }
+
+    /**
+     * Compares the numbers as {@code long}s unless one of them is {@link SemverParser#OVERSIZED}, so that ordinary
+     * versions never touch {@link #bigCore}.
+     */
+    private int compareNumber(long number, long other, int index, Semver v) {
+        if ((number | other) >= 0) {
+            return Long.compare(number, other);
+        }
+        return part(index).compareTo(v.part(index));
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Semver)) {
+            return false;
+        }
+        var semver = (Semver) o;
+        return majorVersion == semver.majorVersion && minorVersion == semver.minorVersion
+                && patchVersion == semver.patchVersion && Arrays.equals(bigCore, semver.bigCore)
+                && Objects.equals(prerelVersion, semver.prerelVersion) && Objects.equals(buildVersion,
+                semver.buildVersion);
+    }
+
+    @Override
+    public int hashCode() {
+        var result = hash;
+        if (result == 0 && !hashIsZero) {
+            // same value as Objects.hash over the fields, without boxing them into an array
+            result = 31 * (31 * (31 * (31 * (31 + Long.hashCode(majorVersion)) + Long.hashCode(minorVersion))
+                    + Long.hashCode(patchVersion)) + Objects.hashCode(prerelVersion)) + Objects.hashCode(buildVersion);
+            if (bigCore != null) {
+                result = 31 * result + Arrays.hashCode(bigCore);
+            }
+            if (result == 0) {
+                hashIsZero = true;
+            } else {
+                hash = result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Serializes in the compact format of {@link SemverCodec}.
+     */
+    private Object writeReplace() {
+        return new SemverCodec.SerializedForm(this);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Serialized form of SemverCodec required");
+    }
+
+    private String versionCore() {
+        if (bigCore != null) {
+            return bigCore[0] + "." + bigCore[1] + "." + bigCore[2];
+        }
+        return majorVersion + "." + minorVersion + "." + patchVersion;
+    }
+
+    Semver bump(Bump bump) {
+        return toBuilder().bump(bump).build();
+    }
+
+    /**
+     * Derives versions from their parts without parsing them again, e.g.
+     * {@code version.toBuilder().bump(Bump.MINOR).withPrerel("rc.1").withBuild(sha).build()}. Only a changed prerelease
+     * or build metadata is validated.
+     * <p>
+     * Instances are not thread safe.
+     */
+    public static final class Builder {
+
+        private long major;
+        private long minor;
+        private long patch;
+        /** all parts once one of them does not fit into a {@code long}, see {@link Semver#bigCore} */
+        private BigInteger[] bigCore;
+        private String prerel;
+        private String build;
+        /** identifiers of an unchanged prerelease, so that they are not tokenized again */
+        private long[] prerelIdentifiers;
+
+        private Builder() {
+        }
+
+        private Builder(Semver version) {
+            major = version.majorVersion;
+            minor = version.minorVersion;
+            patch = version.patchVersion;
+            bigCore = version.bigCore != null ? version.bigCore.clone() : null;
+            prerel = version.prerelVersion;
+            build = version.buildVersion;
+            prerelIdentifiers = version.prerelIdentifiers;
+        }
+
+        public Builder withMajor(long major) {
+            this.major = set(0, checkNumber("Major", major));
+            return this;
+        }
+
+        public Builder withMinor(long minor) {
+            this.minor = set(1, checkNumber("Minor", minor));
+            return this;
+        }
+
+        public Builder withPatch(long patch) {
+            this.patch = set(2, checkNumber("Patch", patch));
+            return this;
+        }
+
+        public Builder withMajor(BigInteger major) {
+            this.major = set(0, checkNumber("Major", major));
+            return this;
+        }
+
+        public Builder withMinor(BigInteger minor) {
+            this.minor = set(1, checkNumber("Minor", minor));
+            return this;
+        }
+
+        public Builder withPatch(BigInteger patch) {
+            this.patch = set(2, checkNumber("Patch", patch));
+            return this;
+        }
+
+        /**
+         * @param prerel dot separated prerelease identifiers, {@code null} or an empty string to remove the prerelease
+         * @throws IllegalArgumentException if {@code prerel} is not a valid prerelease
+         */
+        public Builder withPrerel(String prerel) {
+            this.prerel = checkIdentifiers(prerel, true);
+            this.prerelIdentifiers = null;
+            return this;
+        }
+
+        /**
+         * @param build dot separated build identifiers, {@code null} or an empty string to remove the build metadata
+         * @throws IllegalArgumentException if {@code build} is not valid build metadata
+         */
+        public Builder withBuild(String build) {
+            this.build = checkIdentifiers(build, false);
+            return this;
+        }
+
+        /**
+         * Increments the part of the version selected by {@code bump}, resets the parts after it and removes
+         * prerelease and build metadata, e.g. a patch bump turns {@code 1.2.3-rc.1} into {@code 1.2.4}.
+         */
+        public Builder bump(Bump bump) {
+            if (bump == null) {
+                throw new IllegalArgumentException("Bump ´null´ is unkown");
+            }
+            Instrumentation.metrics().bumped(bump);
+            return increment(bump);
+        }
+
+        /**
+         * {@link #bump(Bump)} without counting it, for bounds computed by the library itself.
+         */
+        Builder increment(Bump bump) {
+            switch (bump) {
+                case PATCH:
+                    patch = increment(2, patch);
+                    break;
+                case MINOR:
+                    minor = increment(1, minor);
+                    patch = set(2, 0);
+                    break;
+                case MAJOR:
+                    major = increment(0, major);
+                    minor = set(1, 0);
+                    patch = set(2, 0);
+                    break;
+                case RELEASE:
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Bump ´%s´ is unkown", bump));
+            }
+            return release();
+        }
+
+        /**
+         * Removes prerelease and build metadata.
+         */
+        public Builder release() {
+            prerel = null;
+            build = null;
+            prerelIdentifiers = null;
+            return this;
+        }
+
+        /**
+         * @return the version of the current parts, the builder can be changed and used again afterwards
+         */
+        public Semver build() {
+            if (bigCore != null) {
+                return of(bigCore[0], bigCore[1], bigCore[2], prerel, build);
+            }
+            if (prerel != null && prerelIdentifiers == null) {
+                prerelIdentifiers = PrereleaseIdentifiers.tokenize(prerel);
+            }
+            return new Semver(major, minor, patch, prerel, build, prerelIdentifiers, null);
+        }
+
+        private long set(int part, long value) {
+            if (bigCore != null) {
+                bigCore[part] = BigInteger.valueOf(value);
+            }
+            return value;
+        }
+
+        private long set(int part, BigInteger value) {
+            if (value.bitLength() < Long.SIZE) {
+                return set(part, value.longValue());
+            }
+            big()[part] = value;
+            return SemverParser.OVERSIZED;
+        }
+
+        private long increment(int part, long value) {
+            if (value != SemverParser.OVERSIZED && value < Long.MAX_VALUE) {
+                return set(part, value + 1);
+            }
+            return set(part, big()[part].add(BigInteger.ONE));
+        }
+
+        private BigInteger[] big() {
+            if (bigCore == null) {
+                bigCore = new BigInteger[]{BigInteger.valueOf(major), BigInteger.valueOf(minor),
+                        BigInteger.valueOf(patch)};
+            }
+            return bigCore;
+        }
+
+        private static long checkNumber(String name, long value) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " ´" + value + "´ is invalid");
+            }
+            return value;
+        }
+
+        private static BigInteger checkNumber(String name, BigInteger value) {
+            if (value == null || value.signum() < 0) {
+                throw new IllegalArgumentException(name + " ´" + value + "´ is invalid");
+            }
+            return value;
+        }
+
+        private String checkIdentifiers(String identifiers, boolean prerelease) {
+            if (identifiers == null || identifiers.isEmpty()) {
+                return null;
+            }
+            if (!new SemverParser().parseIdentifiers(identifiers, prerelease)) {
+                var version = bigCore != null ? bigCore[0] + "." + bigCore[1] + "." + bigCore[2]
+                        : major + "." + minor + "." + patch;
+                throw invalidVersion(prerelease ? version + "-" + identifiers + opt(build, "+")
+                        : version + opt(prerel, "-") + "+" + identifiers);
+            }
+            return identifiers;
+        }
+    }
+
+    /**
+     * Reference grammar of a semantic version. Parsing is done by {@link SemverParser}, which accepts exactly the
+     * same language. Kept in a holder class so that the pattern is only compiled when it is used, not on the startup
+     * path of every program parsing a version.
+     */
+    static final class Grammar {
+
+        private static final String NAT = "0|[1-9][0-9]*";
+        private static final String ALPHANUM = "[0-9]*[A-Za-z-][0-9A-Za-z-]*";
+        private static final String IDENT = NAT + "|" + ALPHANUM;
+        private static final String FIELD = "[0-9A-Za-z-]+";
+        static final Pattern SEMVER_REGEX = Pattern.compile(
+                "^[vV]?(" + NAT + ")\\.(" + NAT + ")\\.(" + NAT + ")(\\-(" + IDENT + ")(\\.(" + IDENT + "))*)?(\\+"
+                        + FIELD + "(\\." + FIELD + ")*)?$");
+
+        private Grammar() {
+        }
+    }
+}
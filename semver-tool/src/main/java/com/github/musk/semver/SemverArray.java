@@ -0,0 +1,440 @@
+package com.github.musk.semver;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Growable, column oriented list of versions for keeping millions of versions in memory.
+ * <p>
+ * Major, minor and patch are stored in {@code long} columns, prerelease and build in a shared ASCII byte arena that
+ * is referenced by packed offset/length columns. Numbers that do not fit into a {@code long} are stored as digits in
+ * the arena as well, their column holds the complement of the reference. An entry costs 40 bytes plus the length of
+ * its prerelease and build, instead of a {@link Semver} object with two strings. Comparison and sorting work on the
+ * columns, {@link Semver} objects are only created by {@link #get(int)} and the iterator.
+ * <p>
+ * Instances are not thread safe.
+ */
+public final class SemverArray implements Iterable<Semver> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long ABSENT = -1L;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    /** the largest array VMs reliably allocate */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private int size;
+    private long[] major;
+    private long[] minor;
+    private long[] patch;
+    /** offset in the arena (high 32 bits) and length (low 32 bits) of the prerelease or {@link #ABSENT} */
+    private long[] prerel;
+    /** offset in the arena (high 32 bits) and length (low 32 bits) of the build metadata or {@link #ABSENT} */
+    private long[] build;
+
+    private byte[] arena;
+    private int arenaSize;
+    private AsciiSequence text;
+
+    public SemverArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SemverArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity '" + initialCapacity + "'");
+        }
+        major = new long[initialCapacity];
+        minor = new long[initialCapacity];
+        patch = new long[initialCapacity];
+        prerel = new long[initialCapacity];
+        build = new long[initialCapacity];
+        arena = new byte[(int) Math.min(MAX_ARRAY_SIZE, initialCapacity * 8L)];
+        text = new AsciiSequence(arena, 0, arena.length);
+    }
+
+    /**
+     * Appends a version.
+     *
+     * @return the index of the version
+     */
+    public int add(Semver version) {
+        var index = grow();
+        major[index] = number(version.majorVersion, version.bigCore, 0);
+        minor[index] = number(version.minorVersion, version.bigCore, 1);
+        patch[index] = number(version.patchVersion, version.bigCore, 2);
+        prerel[index] = store(version.getPrerel());
+        build[index] = store(version.getBuild());
+        return index;
+    }
+
+    /**
+     * Parses and appends a version without creating a {@link Semver}.
+     *
+     * @return the index of the version
+     * @throws IllegalArgumentException if {@code version} is not a semantic version
+     */
+    public int add(CharSequence version) {
+        var parser = new SemverParser();
+        if (!parser.parse(version)) {
+            throw new IllegalArgumentException("Invalid semantic version '" + version + "'");
+        }
+        var index = grow();
+        var bigCore = parser.bigCore();
+        major[index] = number(parser.major, bigCore, 0);
+        minor[index] = number(parser.minor, bigCore, 1);
+        patch[index] = number(parser.patch, bigCore, 2);
+        prerel[index] = parser.prerelStart < 0 ? ABSENT : store(version, parser.prerelStart, parser.prerelEnd);
+        build[index] = parser.buildStart < 0 ? ABSENT : store(version, parser.buildStart, parser.buildEnd);
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @throws ArithmeticException if the major version does not fit into an {@code int}
+     */
+    public int getMajor(int index) {
+        return Math.toIntExact(getMajorLong(index));
+    }
+
+    /**
+     * @throws ArithmeticException if the minor version does not fit into an {@code int}
+     */
+    public int getMinor(int index) {
+        return Math.toIntExact(getMinorLong(index));
+    }
+
+    /**
+     * @throws ArithmeticException if the patch version does not fit into an {@code int}
+     */
+    public int getPatch(int index) {
+        return Math.toIntExact(getPatchLong(index));
+    }
+
+    /**
+     * @throws ArithmeticException if the major version does not fit into a {@code long}
+     */
+    public long getMajorLong(int index) {
+        return exact(major[checkIndex(index)]);
+    }
+
+    /**
+     * @throws ArithmeticException if the minor version does not fit into a {@code long}
+     */
+    public long getMinorLong(int index) {
+        return exact(minor[checkIndex(index)]);
+    }
+
+    /**
+     * @throws ArithmeticException if the patch version does not fit into a {@code long}
+     */
+    public long getPatchLong(int index) {
+        return exact(patch[checkIndex(index)]);
+    }
+
+    public String getPrerel(int index) {
+        return load(prerel[checkIndex(index)]);
+    }
+
+    public String getBuild(int index) {
+        return load(build[checkIndex(index)]);
+    }
+
+    /**
+     * @return a new {@link Semver} for the version at {@code index}
+     */
+    public Semver get(int index) {
+        checkIndex(index);
+        if ((major[index] | minor[index] | patch[index]) < 0) {
+            return Semver.of(bigNumber(major[index]), bigNumber(minor[index]), bigNumber(patch[index]),
+                    load(prerel[index]), load(build[index]));
+        }
+        return new Semver(major[index], minor[index], patch[index], load(prerel[index]), load(build[index]));
+    }
+
+    /**
+     * Compares two entries with the same result as {@link Semver#compareTo(Semver)} of their versions.
+     */
+    public int compare(int i, int j) {
+        checkIndex(i);
+        checkIndex(j);
+        return compareAt(i, j);
+    }
+
+    /**
+     * Compares an entry with a version with the same result as {@link Semver#compareTo(Semver)}.
+     */
+    public int compare(int index, Semver version) {
+        checkIndex(index);
+        var result = compareNumber(major[index], version, 0);
+        result = result != 0 ? result : compareNumber(minor[index], version, 1);
+        result = result != 0 ? result : compareNumber(patch[index], version, 2);
+        if (result != 0) {
+            return result;
+        }
+        var versionPrerel = version.getPrerel();
+        var versionReference = versionPrerel == null ? ABSENT : reference(0, versionPrerel.length());
+        result = comparePrerel(prerel[index], versionReference, versionPrerel);
+        if (result != 0) {
+            return result;
+        }
+        return compareBuild(build[index] == ABSENT, version.getBuild() == null);
+    }
+
+    /**
+     * Sorts the entries in place by semver precedence. The sort is not stable.
+     */
+    public void sort() {
+        sort(0, size);
+    }
+
+    /**
+     * Searches a version in a {@link #sort() sorted} array.
+     *
+     * @return the index of an entry with the same precedence as {@code version}, otherwise
+     *         {@code (-(insertion point) - 1)} as in {@link Arrays#binarySearch(int[], int)}
+     */
+    public int binarySearch(Semver version) {
+        var low = 0;
+        var high = size - 1;
+        while (low <= high) {
+            var mid = (low + high) >>> 1;
+            var result = compare(mid, version);
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Iterates over the entries, creating a {@link Semver} for every entry that is visited.
+     */
+    @Override
+    public Iterator<Semver> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Semver next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return index;
+    }
+
+    private int grow() {
+        if (size == major.length) {
+            if (size == MAX_ARRAY_SIZE) {
+                throw new IllegalStateException("Array is full at " + size + " versions");
+            }
+            var capacity = (int) Math.min(MAX_ARRAY_SIZE, Math.max(DEFAULT_CAPACITY, size + (long) (size >> 1)));
+            major = Arrays.copyOf(major, capacity);
+            minor = Arrays.copyOf(minor, capacity);
+            patch = Arrays.copyOf(patch, capacity);
+            prerel = Arrays.copyOf(prerel, capacity);
+            build = Arrays.copyOf(build, capacity);
+        }
+        return size++;
+    }
+
+    /**
+     * @return {@code value} or the complement of the reference to its digits if it is {@code OVERSIZED}
+     */
+    private long number(long value, BigInteger[] bigCore, int part) {
+        return value != SemverParser.OVERSIZED ? value : ~store(bigCore[part].toString());
+    }
+
+    private BigInteger bigNumber(long number) {
+        return number >= 0 ? BigInteger.valueOf(number) : new BigInteger(load(~number));
+    }
+
+    private static long exact(long number) {
+        if (number < 0) {
+            throw new ArithmeticException("Version number does not fit into a long");
+        }
+        return number;
+    }
+
+    private long store(String value) {
+        return value == null ? ABSENT : store(value, 0, value.length());
+    }
+
+    private long store(CharSequence value, int start, int end) {
+        var length = end - start;
+        if (length > arena.length - arenaSize) {
+            arena = Arrays.copyOf(arena, arenaCapacity(arenaSize, length, arena.length));
+            text = new AsciiSequence(arena, 0, arena.length);
+        }
+        var offset = arenaSize;
+        for (var i = 0; i < length; i++) {
+            arena[arenaSize++] = (byte) value.charAt(start + i);
+        }
+        return reference(offset, length);
+    }
+
+    /**
+     * @return the capacity for {@code length} more bytes, doubling the current capacity up to the array limit
+     * @throws IllegalStateException if the bytes do not fit into an array, offsets of references would overflow
+     */
+    static int arenaCapacity(int size, int length, int capacity) {
+        if (length > MAX_ARRAY_SIZE - size) {
+            throw new IllegalStateException("Arena of " + size + " bytes cannot grow by " + length
+                    + " bytes, prereleases, builds and oversized numbers are limited to " + MAX_ARRAY_SIZE + " bytes");
+        }
+        return (int) Math.min(MAX_ARRAY_SIZE, Math.max((long) size + length, 2L * capacity));
+    }
+
+    private static long reference(int offset, int length) {
+        return ((long) offset << 32) | length;
+    }
+
+    private String load(long reference) {
+        return reference == ABSENT ? null : text.subSequence(offset(reference), end(reference)).toString();
+    }
+
+    private static int offset(long reference) {
+        return (int) (reference >>> 32);
+    }
+
+    private static int end(long reference) {
+        return offset(reference) + (int) reference;
+    }
+
+    private int compareAt(int i, int j) {
+        if (major[i] != major[j] || minor[i] != minor[j] || patch[i] != patch[j]) {
+            // equal oversized numbers can have different references, so all parts may have to be compared
+            var result = compareNumber(major[i], major[j]);
+            result = result != 0 ? result : compareNumber(minor[i], minor[j]);
+            result = result != 0 ? result : compareNumber(patch[i], patch[j]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        var result = comparePrerel(prerel[i], prerel[j], text);
+        if (result != 0) {
+            return result;
+        }
+        return compareBuild(build[i] == ABSENT, build[j] == ABSENT);
+    }
+
+    private int compareNumber(long left, long right) {
+        if ((left | right) >= 0) {
+            return Long.compare(left, right);
+        }
+        return bigNumber(left).compareTo(bigNumber(right));
+    }
+
+    private int compareNumber(long number, Semver version, int part) {
+        if (number >= 0 && version.bigCore == null) {
+            return Long.compare(number, part == 0 ? version.majorVersion
+                    : part == 1 ? version.minorVersion : version.patchVersion);
+        }
+        return bigNumber(number).compareTo(version.part(part));
+    }
+
+    /**
+     * @param left        reference to the prerelease in the arena
+     * @param right       reference to the other prerelease in {@code rightText} or {@link #ABSENT}
+     * @param rightText   holds the other prerelease
+     */
+    private int comparePrerel(long left, long right, CharSequence rightText) {
+        if (left == ABSENT || right == ABSENT) {
+            // a release has a higher precedence than its prereleases
+            return Boolean.compare(left == ABSENT, right == ABSENT);
+        }
+        return PrereleaseIdentifiers.compare(text, offset(left), end(left), rightText, offset(right), end(right));
+    }
+
+    private static int compareBuild(boolean leftAbsent, boolean rightAbsent) {
+        // same order as Semver.compareTo, versions with build metadata come first
+        return Boolean.compare(leftAbsent, rightAbsent);
+    }
+
+    /**
+     * Quicksort with three way partitioning, as versions in a catalog often have the same precedence.
+     */
+    private void sort(int from, int to) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            swap(from, medianOfThree(from, (from + to) >>> 1, to - 1));
+            // invariant: [from, lt) < pivot, [lt, i) == pivot, (gt, to) > pivot, pivot is kept at lt
+            var lt = from;
+            var gt = to - 1;
+            var i = from + 1;
+            while (i <= gt) {
+                var result = compareAt(i, lt);
+                if (result < 0) {
+                    swap(lt++, i++);
+                } else if (result > 0) {
+                    swap(i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            // recurse into the smaller part to bound the stack depth
+            if (lt - from < to - gt - 1) {
+                sort(from, lt);
+                from = gt + 1;
+            } else {
+                sort(gt + 1, to);
+                to = lt;
+            }
+        }
+        for (var i = from + 1; i < to; i++) {
+            for (var j = i; j > from && compareAt(j - 1, j) > 0; j--) {
+                swap(j - 1, j);
+            }
+        }
+    }
+
+    private int medianOfThree(int a, int b, int c) {
+        if (compareAt(a, b) < 0) {
+            return compareAt(b, c) < 0 ? b : compareAt(a, c) < 0 ? c : a;
+        }
+        return compareAt(a, c) < 0 ? a : compareAt(b, c) < 0 ? c : b;
+    }
+
+    private void swap(int i, int j) {
+        var tmp = major[i];
+        major[i] = major[j];
+        major[j] = tmp;
+        tmp = minor[i];
+        minor[i] = minor[j];
+        minor[j] = tmp;
+        tmp = patch[i];
+        patch[i] = patch[j];
+        patch[j] = tmp;
+        tmp = prerel[i];
+        prerel[i] = prerel[j];
+        prerel[j] = tmp;
+        tmp = build[i];
+        build[i] = build[j];
+        build[j] = tmp;
+    }
+}
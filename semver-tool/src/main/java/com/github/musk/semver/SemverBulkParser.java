@@ -0,0 +1,261 @@
+package com.github.musk.semver;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.ToLongFunction;
+
+/**
+ * Parses files of newline separated versions, e.g. registry dumps or SBOM exports, in parallel.
+ * <p>
+ * The file is memory mapped and split into line aligned chunks. The newlines of all chunks are counted first, so that
+ * malformed lines can be reported with their line number, then the chunks are parsed on a {@link ForkJoinPool}.
+ * Parsed versions are handed to a {@link Sink} in batches; malformed lines are reported and skipped. Lines may end
+ * with {@code \n} or {@code \r\n}, empty lines are ignored.
+ */
+public final class SemverBulkParser {
+
+    /**
+     * Receives the results of {@link #parse(Path, Sink)}. Methods are called concurrently from the worker threads
+     * and batches of different chunks arrive in no particular order.
+     */
+    public interface Sink {
+
+        /**
+         * @param batch parsed versions in file order; the list is owned by the sink
+         */
+        void accept(List<Semver> batch);
+
+        /**
+         * @param lineNumber 1 based number of the malformed line
+         * @param line       the malformed line, decoded as UTF-8
+         */
+        void malformed(long lineNumber, String line);
+    }
+
+    private static final int DEFAULT_BATCH_SIZE = 1024;
+    private static final int WINDOW_SIZE = 64 << 10;
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final long MAX_CHUNK_SIZE = 64 << 20;
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final long chunkSize;
+
+    /**
+     * Creates a parser running on the common pool.
+     */
+    public SemverBulkParser() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param pool      pool to parse the chunks on
+     * @param batchSize maximum number of versions per {@link Sink#accept(List)}
+     */
+    public SemverBulkParser(ForkJoinPool pool, int batchSize) {
+        this(pool, batchSize, 0);
+    }
+
+    /**
+     * @param chunkSize size of the chunks the file is split into, 0 to derive it from file size and parallelism
+     */
+    SemverBulkParser(ForkJoinPool pool, int batchSize, long chunkSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive but was '" + batchSize + "'");
+        }
+        this.pool = pool;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Parses all lines of {@code file} and blocks until they are processed.
+     *
+     * @return number of parsed versions
+     * @throws IOException if the file cannot be read
+     */
+    public long parse(Path file, Sink sink) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var chunks = split(channel);
+            // line numbers are only known once the lines of all previous chunks are counted
+            var lines = run(chunks, Chunk::countLines);
+            var line = 1L;
+            for (var i = 0; i < chunks.size(); i++) {
+                chunks.get(i).firstLine = line;
+                line += lines.get(i);
+            }
+            var parsed = 0L;
+            for (var count : run(chunks, chunk -> chunk.parse(sink))) {
+                parsed += count;
+            }
+            return parsed;
+        }
+    }
+
+    private List<Chunk> split(FileChannel channel) throws IOException {
+        var size = channel.size();
+        var target = chunkSize > 0 ? chunkSize
+                : Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, size / (pool.getParallelism() * 4L)));
+        var chunks = new ArrayList<Chunk>();
+        var start = 0L;
+        while (start < size) {
+            var end = start + target >= size ? size : lineEnd(channel, start + target);
+            chunks.add(new Chunk(channel.map(MapMode.READ_ONLY, start, end - start)));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return position after the next newline at or after {@code position}, or the file size if there is none
+     */
+    private static long lineEnd(FileChannel channel, long position) throws IOException {
+        var buffer = ByteBuffer.allocate(256);
+        while (true) {
+            buffer.clear();
+            var read = channel.read(buffer, position);
+            if (read < 0) {
+                return channel.size();
+            }
+            for (var i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private List<Long> run(List<Chunk> chunks, ToLongFunction<Chunk> task) throws IOException {
+        var tasks = new ArrayList<Callable<Long>>(chunks.size());
+        for (var chunk : chunks) {
+            tasks.add(() -> task.applyAsLong(chunk));
+        }
+        var results = new ArrayList<Long>(chunks.size());
+        try {
+            for (Future<Long> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+        return results;
+    }
+
+    private final class Chunk {
+
+        private final ByteBuffer buffer;
+        private long firstLine;
+        private long lineNumber;
+        private long parsed;
+        private List<Semver> batch;
+
+        Chunk(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * @return number of lines in this chunk
+         */
+        long countLines() {
+            var window = new byte[WINDOW_SIZE];
+            var view = buffer.duplicate();
+            var count = 0L;
+            var last = (byte) '\n';
+            while (view.hasRemaining()) {
+                var length = Math.min(view.remaining(), window.length);
+                view.get(window, 0, length);
+                for (var i = 0; i < length; i++) {
+                    if (window[i] == '\n') {
+                        count++;
+                    }
+                }
+                last = window[length - 1];
+            }
+            // last line of the file without a trailing newline
+            return last == '\n' ? count : count + 1;
+        }
+
+        /**
+         * Copies the mapped bytes window by window to the heap and parses the lines in place.
+         *
+         * @return number of parsed versions
+         */
+        long parse(Sink sink) {
+            var parser = new SemverParser();
+            var window = new byte[WINDOW_SIZE];
+            var view = buffer.duplicate();
+            var filled = 0;
+            var start = 0;
+            lineNumber = firstLine;
+            batch = new ArrayList<>(batchSize);
+            while (true) {
+                if (start > 0) {
+                    // keep the incomplete last line
+                    System.arraycopy(window, start, window, 0, filled - start);
+                    filled -= start;
+                    start = 0;
+                } else if (filled == window.length) {
+                    window = Arrays.copyOf(window, window.length * 2);
+                }
+                var scan = filled;
+                var length = Math.min(view.remaining(), window.length - filled);
+                view.get(window, filled, length);
+                filled += length;
+                for (var i = scan; i < filled; i++) {
+                    if (window[i] == '\n') {
+                        line(parser, sink, window, start, i);
+                        start = i + 1;
+                    }
+                }
+                if (!view.hasRemaining()) {
+                    if (start < filled) {
+                        line(parser, sink, window, start, filled);
+                    }
+                    break;
+                }
+            }
+            if (!batch.isEmpty()) {
+                sink.accept(batch);
+            }
+            return parsed;
+        }
+
+        private void line(SemverParser parser, Sink sink, byte[] window, int start, int end) {
+            if (end > start && window[end - 1] == '\r') {
+                end--;
+            }
+            if (end > start) {
+                if (parser.parse(new AsciiSequence(window, start, end - start))) {
+                    batch.add(new Semver(parser));
+                    parsed++;
+                    if (batch.size() == batchSize) {
+                        sink.accept(batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                } else {
+                    sink.malformed(lineNumber, new String(window, start, end - start, StandardCharsets.UTF_8));
+                }
+            }
+            lineNumber++;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.github.musk.semver;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, thread safe cache of parsed versions.
+ * <p>
+ * Services that see the same version strings over and over can use {@link #parse(String)} instead of
+ * {@link Semver#parse(String)} to share one {@link Semver} instance per string. Hits do not lock, even when many
+ * threads look up the same version. Insertions lock one of several independent segments, and entries are evicted per
+ * segment according to the {@link EvictionPolicy}.
+ */
+public final class SemverCache {
+
+    /**
+     * Decides which entries are kept when the cache is full.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used entry for every new entry.
+         */
+        LRU,
+        /**
+         * Only admits a new entry if it was requested more often than the least recently used entry, based on an
+         * approximate, periodically aged frequency count (TinyLFU). Protects frequently used versions from being
+         * flushed out by one-off versions.
+         */
+        TINY_LFU
+    }
+
+    private static final int MIN_SEGMENT_SIZE = 16;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache with {@link EvictionPolicy#LRU} eviction.
+     *
+     * @param maximumSize maximum number of cached versions
+     */
+    public SemverCache(int maximumSize) {
+        this(maximumSize, EvictionPolicy.LRU);
+    }
+
+    /**
+     * @param maximumSize maximum number of cached versions
+     * @param policy      eviction policy of the cache
+     */
+    public SemverCache(int maximumSize, EvictionPolicy policy) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive but was '" + maximumSize + "'");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Eviction policy ´null´ is unknown");
+        }
+        var count = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+        while (count > 1 && maximumSize / count < MIN_SEGMENT_SIZE) {
+            count >>= 1;
+        }
+        segments = new Segment[count];
+        for (var i = 0; i < count; i++) {
+            var capacity = maximumSize / count + (i < maximumSize % count ? 1 : 0);
+            var sketch = policy == EvictionPolicy.TINY_LFU ? new FrequencySketch(capacity) : null;
+            segments[i] = new Segment(capacity, sketch);
+        }
+        segmentMask = count - 1;
+    }
+
+    /**
+     * Returns the cached version for {@code version} or parses and caches it.
+     *
+     * @throws IllegalArgumentException if {@code version} is not a semantic version
+     */
+    public Semver parse(String version) {
+        var hash = spread(version.hashCode());
+        var segment = segments[hash & segmentMask];
+        var cached = segment.get(version);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        // parse outside of the lock, a concurrent miss on the same version only costs a second parse
+        return segment.put(version, hash, Semver.parse(version));
+    }
+
+    /**
+     * @return number of {@link #parse(String)} calls that were answered from the cache
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of {@link #parse(String)} calls that had to parse the version
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of entries that were evicted to make room for new entries
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return current number of cached versions
+     */
+    public int size() {
+        var size = 0;
+        for (var segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all entries. Counters are not reset.
+     */
+    public void clear() {
+        for (var segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Entries of a segment. Lookups only read the {@link ConcurrentHashMap}; hits are recorded in a small read buffer
+     * and applied to the recency order and the frequency sketch under the lock when the buffer is full, or before the
+     * next insertion. Reads that find the buffer full while another thread holds the lock are not recorded, so
+     * recency and frequency are approximate under contention.
+     */
+    private final class Segment {
+
+        private static final int READ_BUFFER_SIZE = 16;
+
+        private final int capacity;
+        private final FrequencySketch sketch;
+        private final ConcurrentHashMap<String, Semver> values = new ConcurrentHashMap<>();
+        /** recency order of the keys of {@link #values}, guarded by {@link #lock} */
+        private final LinkedHashMap<String, Boolean> order = new LinkedHashMap<>(16, 0.75f, true);
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicReferenceArray<String> reads = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicInteger readCount = new AtomicInteger();
+
+        Segment(int capacity, FrequencySketch sketch) {
+            this.capacity = capacity;
+            this.sketch = sketch;
+        }
+
+        Semver get(String version) {
+            var semver = values.get(version);
+            if (semver != null) {
+                recordRead(version);
+            }
+            return semver;
+        }
+
+        private void recordRead(String version) {
+            // a plain read first, so that readers of a full buffer do not contend on the counter
+            if (readCount.get() < READ_BUFFER_SIZE) {
+                var index = readCount.getAndIncrement();
+                if (index < READ_BUFFER_SIZE) {
+                    reads.lazySet(index, version);
+                    if (index < READ_BUFFER_SIZE - 1) {
+                        return;
+                    }
+                }
+            }
+            if (lock.tryLock()) {
+                try {
+                    drainReads();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        /**
+         * Applies the buffered reads, must hold the lock.
+         */
+        private void drainReads() {
+            for (var i = 0; i < READ_BUFFER_SIZE; i++) {
+                // a slot that is still null was claimed by a reader that has not written it yet, that read is lost
+                var version = reads.getAndSet(i, null);
+                if (version != null) {
+                    order.get(version);
+                    if (sketch != null) {
+                        sketch.increment(spread(version.hashCode()));
+                    }
+                }
+            }
+            readCount.set(0);
+        }
+
+        Semver put(String version, int hash, Semver semver) {
+            lock.lock();
+            try {
+                drainReads();
+                if (sketch != null) {
+                    sketch.increment(hash);
+                }
+                var existing = values.get(version);
+                if (existing != null) {
+                    return existing;
+                }
+                if (values.size() >= capacity) {
+                    var eldest = order.keySet().iterator().next();
+                    if (sketch != null && sketch.frequency(hash) <= sketch.frequency(spread(eldest.hashCode()))) {
+                        // not admitted, the caller still gets the parsed version
+                        return semver;
+                    }
+                    order.remove(eldest);
+                    values.remove(eldest);
+                    evictions.increment();
+                }
+                order.put(version, Boolean.TRUE);
+                values.put(version, semver);
+                return semver;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                drainReads();
+                order.clear();
+                values.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Count-min sketch with four byte counters per key, capped at 15. All counters are halved after a number of
+     * increments proportional to the capacity, so that the sketch follows changes in popularity.
+     */
+    private static final class FrequencySketch {
+
+        private static final int[] SEEDS = {0x97CB3127, 0xB71C1F5D, 0xC2B2AE35, 0x7FEB352D};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            var size = Integer.highestOneBit(Math.max(16, capacity * 4) - 1) << 1;
+            table = new byte[size];
+            mask = size - 1;
+            sampleSize = Math.max(capacity, 1) * 10;
+        }
+
+        void increment(int hash) {
+            for (var seed : SEEDS) {
+                var index = index(hash, seed);
+                if (table[index] < MAX_COUNT) {
+                    table[index]++;
+                }
+            }
+            if (++additions >= sampleSize) {
+                for (var i = 0; i < table.length; i++) {
+                    table[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        int frequency(int hash) {
+            var frequency = MAX_COUNT;
+            for (var seed : SEEDS) {
+                frequency = Math.min(frequency, table[index(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int seed) {
+            var h = (hash + seed) * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.github.musk.semver;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact binary format for versions, e.g. for cache entries and RPC payloads.
+ * <p>
+ * A version is written as a flags byte, major, minor and patch as unsigned varints and, if present,
+ * the prerelease and build metadata as varint length followed by their ASCII characters. If a number does not fit
+ * into a {@code long}, all three numbers are written as varint length followed by their big-endian bytes instead.
+ * Typical versions take 4 to 20 bytes. Java serialization of {@link Semver} uses this format as well.
+ * <p>
+ * Prerelease, build metadata and the bytes of a number are limited to 1 MiB each, so that forged lengths cannot make
+ * the reader allocate more memory than that.
+ */
+public final class SemverCodec {
+
+    private static final int PRERELEASE = 0x01;
+    private static final int BUILD = 0x04;
+    private static final int BIG_CORE = 0x10;
+    private static final int MAX_VARINT_LENGTH = 10;
+    /** longest prerelease, build metadata or number magnitude in bytes */
+    private static final int MAX_LENGTH = 1 << 20;
+
+    private SemverCodec() {
+    }
+
+    /**
+     * Writes {@code version} to {@code out}.
+     *
+     * @throws IllegalArgumentException if a part of {@code version} is longer than 1 MiB
+     */
+    public static void write(Semver version, DataOutput out) throws IOException {
+        var prerel = version.getPrerel();
+        var build = version.getBuild();
+        checkLength("Prerelease", length(prerel));
+        checkLength("Build metadata", length(build));
+        // assemble the version first, a single write is much cheaper than a write per byte for most outputs
+        var bigCore = version.bigCore;
+        var bytes = new byte[1 + 5 * MAX_VARINT_LENGTH + length(prerel) + length(build) + length(bigCore)];
+        bytes[0] = (byte) (flag(prerel, PRERELEASE) | flag(build, BUILD) | (bigCore != null ? BIG_CORE : 0));
+        int pos;
+        if (bigCore == null) {
+            pos = writeVarint(version.majorVersion, bytes, 1);
+            pos = writeVarint(version.minorVersion, bytes, pos);
+            pos = writeVarint(version.patchVersion, bytes, pos);
+        } else {
+            pos = 1;
+            for (var number : bigCore) {
+                var magnitude = number.toByteArray();
+                checkLength("Version number", magnitude.length);
+                pos = writeVarint(magnitude.length, bytes, pos);
+                System.arraycopy(magnitude, 0, bytes, pos, magnitude.length);
+                pos += magnitude.length;
+            }
+        }
+        pos = writeAscii(prerel, bytes, pos);
+        pos = writeAscii(build, bytes, pos);
+        out.write(bytes, 0, pos);
+    }
+
+    /**
+     * Reads a version written by {@link #write(Semver, DataOutput)}.
+     *
+     * @throws IOException if reading fails or the data is not a valid version
+     */
+    public static Semver read(DataInput in) throws IOException {
+        var flags = in.readUnsignedByte();
+        if ((flags & ~(PRERELEASE | BUILD | BIG_CORE)) != 0) {
+            throw invalidData();
+        }
+        BigInteger[] bigCore = null;
+        var major = 0L;
+        var minor = 0L;
+        var patch = 0L;
+        if ((flags & BIG_CORE) != 0) {
+            bigCore = new BigInteger[]{readBigInteger(in), readBigInteger(in), readBigInteger(in)};
+        } else {
+            major = readVarint(in);
+            minor = readVarint(in);
+            patch = readVarint(in);
+        }
+        var prerel = (flags & PRERELEASE) != 0 ? readAscii(in) : null;
+        var build = (flags & BUILD) != 0 ? readAscii(in) : null;
+        var parser = new SemverParser();
+        if ((prerel != null && !parser.parseIdentifiers(prerel, true))
+                || (build != null && !parser.parseIdentifiers(build, false))) {
+            throw invalidData();
+        }
+        return bigCore != null ? Semver.of(bigCore[0], bigCore[1], bigCore[2], prerel, build)
+                : new Semver(major, minor, patch, prerel, build);
+    }
+
+    /**
+     * Writes the number of versions followed by the versions.
+     */
+    public static void writeAll(Semver[] versions, DataOutput out) throws IOException {
+        writeVarint(versions.length, out);
+        for (var version : versions) {
+            write(version, out);
+        }
+    }
+
+    /**
+     * Reads versions written by {@link #writeAll(Semver[], DataOutput)}.
+     *
+     * @throws IOException if reading fails or the data is not valid
+     */
+    public static Semver[] readAll(DataInput in) throws IOException {
+        var count = readLength(in);
+        // do not trust the count for the initial allocation
+        var versions = new Semver[Math.min(count, 1024)];
+        for (var i = 0; i < count; i++) {
+            if (i == versions.length) {
+                versions = Arrays.copyOf(versions, Math.min(count, versions.length * 2));
+            }
+            versions[i] = read(in);
+        }
+        return versions;
+    }
+
+    private static int flag(String value, int present) {
+        return value != null && !value.isEmpty() ? present : 0;
+    }
+
+    private static void writeVarint(long value, DataOutput out) throws IOException {
+        var bytes = new byte[MAX_VARINT_LENGTH];
+        out.write(bytes, 0, writeVarint(value, bytes, 0));
+    }
+
+    /**
+     * @return the position after the varint
+     */
+    private static int writeVarint(long value, byte[] bytes, int pos) {
+        while ((value & ~0x7F) != 0) {
+            bytes[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[pos++] = (byte) value;
+        return pos;
+    }
+
+    /**
+     * @return the varint, which must be a non negative {@code long}
+     */
+    private static long readVarint(DataInput in) throws IOException {
+        var value = 0L;
+        for (var shift = 0; shift < 63; shift += 7) {
+            var b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw invalidData();
+    }
+
+    /**
+     * @return the varint, which must be a non negative {@code int}
+     */
+    private static int readLength(DataInput in) throws IOException {
+        var value = readVarint(in);
+        if (value > Integer.MAX_VALUE) {
+            throw invalidData();
+        }
+        return (int) value;
+    }
+
+    private static void checkLength(String part, int length) {
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException(part + " of " + length + " bytes is longer than " + MAX_LENGTH
+                    + " bytes");
+        }
+    }
+
+    private static BigInteger readBigInteger(DataInput in) throws IOException {
+        var length = readLength(in);
+        if (length == 0 || length > MAX_LENGTH) {
+            throw invalidData();
+        }
+        var magnitude = new byte[length];
+        in.readFully(magnitude);
+        var value = new BigInteger(magnitude);
+        if (value.signum() < 0) {
+            throw invalidData();
+        }
+        return value;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static int length(BigInteger[] bigCore) {
+        var length = 0;
+        if (bigCore != null) {
+            for (var number : bigCore) {
+                length += MAX_VARINT_LENGTH + number.bitLength() / 8 + 1;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * @return the position after the length and characters of {@code value}
+     */
+    private static int writeAscii(String value, byte[] bytes, int pos) {
+        if (value != null && !value.isEmpty()) {
+            pos = writeVarint(value.length(), bytes, pos);
+            for (var i = 0; i < value.length(); i++) {
+                bytes[pos++] = (byte) value.charAt(i);
+            }
+        }
+        return pos;
+    }
+
+    private static String readAscii(DataInput in) throws IOException {
+        var length = readLength(in);
+        if (length == 0 || length > MAX_LENGTH) {
+            throw invalidData();
+        }
+        var bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private static IOException invalidData() {
+        return new IOException("Invalid encoded semantic version");
+    }
+
+    /**
+     * Serialized form of {@link Semver}, written in the format of {@link SemverCodec} instead of the default field by
+     * field form.
+     */
+    static final class SerializedForm implements Externalizable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Semver version;
+
+        /**
+         * For deserialization only.
+         */
+        public SerializedForm() {
+        }
+
+        SerializedForm(Semver version) {
+            this.version = version;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            write(version, out);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            version = read(in);
+        }
+
+        private Object readResolve() {
+            return version;
+        }
+    }
+}
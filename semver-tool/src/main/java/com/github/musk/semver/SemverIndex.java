@@ -0,0 +1,419 @@
+package com.github.musk.semver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable set of versions in precedence order for answering resolver queries like "highest version in 2.x", "next
+ * version after 1.4.7" or "latest release below 3.0.0" in {@code O(log n)}.
+ * <p>
+ * Versions are ordered by {@link Semver#compareTo(Semver)}; versions that only differ in their build metadata are
+ * additionally ordered by the build metadata, so that the order is consistent with {@link Semver#equals(Object)}.
+ * Equal versions are only kept once. Views created by {@link #subIndex(Semver, boolean, Semver, boolean)} and friends
+ * share the versions of this index.
+ * <p>
+ * Instances are built with {@link #of(Collection)} or a {@link Builder}. A builder created by {@link #toBuilder()}
+ * only sorts the versions that are added to it and merges them with the already sorted versions of the index.
+ */
+public final class SemverIndex implements Iterable<Semver> {
+
+    private static final Comparator<Semver> ORDER = Comparator.<Semver>naturalOrder().thenComparing(Semver::getBuild,
+            Comparator.nullsLast(Comparator.naturalOrder()));
+    private static final SemverIndex EMPTY = new SemverIndex(new Semver[0], new int[0], 0, 0);
+
+    private final Semver[] versions;
+    /** index of the last release at or before an index, -1 if there is none */
+    private final int[] previousRelease;
+    private final int from;
+    private final int to;
+
+    private SemverIndex(Semver[] versions, int[] previousRelease, int from, int to) {
+        this.versions = versions;
+        this.previousRelease = previousRelease;
+        this.from = from;
+        this.to = to;
+    }
+
+    private static SemverIndex of(Semver[] sorted) {
+        if (sorted.length == 0) {
+            return EMPTY;
+        }
+        var previousRelease = new int[sorted.length];
+        var release = -1;
+        for (var i = 0; i < sorted.length; i++) {
+            if (sorted[i].getPrerel() == null) {
+                release = i;
+            }
+            previousRelease[i] = release;
+        }
+        return new SemverIndex(sorted, previousRelease, 0, sorted.length);
+    }
+
+    /**
+     * @return an index of {@code versions}, duplicates are dropped
+     */
+    public static SemverIndex of(Collection<Semver> versions) {
+        return builder().addAll(versions).build();
+    }
+
+    /**
+     * @return a builder for an index that is empty at first
+     */
+    public static Builder builder() {
+        return new Builder(EMPTY);
+    }
+
+    /**
+     * @return a builder for an index with the versions of this index and the versions added to the builder
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public int size() {
+        return to - from;
+    }
+
+    public boolean isEmpty() {
+        return to == from;
+    }
+
+    /**
+     * @return the version at position {@code index} in precedence order
+     */
+    public Semver get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        return versions[from + index];
+    }
+
+    /**
+     * @return {@code true} if {@code version} is in this index
+     */
+    public boolean contains(Semver version) {
+        return search(version) >= 0;
+    }
+
+    /**
+     * @return the lowest version or {@code null} if the index is empty
+     */
+    public Semver first() {
+        return isEmpty() ? null : versions[from];
+    }
+
+    /**
+     * @return the highest version or {@code null} if the index is empty
+     */
+    public Semver last() {
+        return isEmpty() ? null : versions[to - 1];
+    }
+
+    /**
+     * @return the highest version less than or equal to {@code version} or {@code null} if there is none
+     */
+    public Semver floor(Semver version) {
+        return at(floorIndex(version, true));
+    }
+
+    /**
+     * @return the highest version strictly less than {@code version} or {@code null} if there is none
+     */
+    public Semver lower(Semver version) {
+        return at(floorIndex(version, false));
+    }
+
+    /**
+     * @return the lowest version greater than or equal to {@code version} or {@code null} if there is none
+     */
+    public Semver ceiling(Semver version) {
+        return at(ceilingIndex(version, true));
+    }
+
+    /**
+     * @return the lowest version strictly greater than {@code version} or {@code null} if there is none
+     */
+    public Semver higher(Semver version) {
+        return at(ceilingIndex(version, false));
+    }
+
+    /**
+     * @return the highest release, i.e. version without prerelease, less than or equal to {@code version} or
+     *         {@code null} if there is none
+     */
+    public Semver floorRelease(Semver version) {
+        return releaseAt(floorIndex(version, true));
+    }
+
+    /**
+     * @return the highest release, i.e. version without prerelease, strictly less than {@code version} or
+     *         {@code null} if there is none
+     */
+    public Semver lowerRelease(Semver version) {
+        return releaseAt(floorIndex(version, false));
+    }
+
+    /**
+     * @param includePrereleases {@code false} to only consider releases
+     * @return the highest version with major version {@code major} or {@code null} if there is none
+     */
+    public Semver latestInMajor(long major, boolean includePrereleases) {
+        if (major < 0) {
+            return null;
+        }
+        var index = lastIndexOf(major, -1);
+        return latest(includePrereleases ? at(index) : releaseAt(index), major, -1);
+    }
+
+    /**
+     * @param includePrereleases {@code false} to only consider releases
+     * @return the highest version with major version {@code major} and minor version {@code minor} or {@code null}
+     *         if there is none
+     */
+    public Semver latestInMinor(long major, long minor, boolean includePrereleases) {
+        if (major < 0 || minor < 0) {
+            return null;
+        }
+        var index = lastIndexOf(major, minor);
+        return latest(includePrereleases ? at(index) : releaseAt(index), major, minor);
+    }
+
+    /**
+     * @return a view of the versions from {@code fromVersion} to {@code toVersion}
+     */
+    public SemverIndex subIndex(Semver fromVersion, boolean fromInclusive, Semver toVersion, boolean toInclusive) {
+        var start = ceilingIndex(fromVersion, fromInclusive);
+        var end = floorIndex(toVersion, toInclusive) + 1;
+        return start < 0 || end <= start ? EMPTY : new SemverIndex(versions, previousRelease, start, end);
+    }
+
+    /**
+     * @return a view of the versions lower than (or equal to, if {@code inclusive}) {@code toVersion}
+     */
+    public SemverIndex headIndex(Semver toVersion, boolean inclusive) {
+        var end = floorIndex(toVersion, inclusive) + 1;
+        return end <= from ? EMPTY : new SemverIndex(versions, previousRelease, from, end);
+    }
+
+    /**
+     * @return a view of the versions greater than (or equal to, if {@code inclusive}) {@code fromVersion}
+     */
+    public SemverIndex tailIndex(Semver fromVersion, boolean inclusive) {
+        var start = ceilingIndex(fromVersion, inclusive);
+        return start < 0 ? EMPTY : new SemverIndex(versions, previousRelease, start, to);
+    }
+
+    /**
+     * Iterates over all versions in precedence order.
+     */
+    @Override
+    public Iterator<Semver> iterator() {
+        return iterator(true);
+    }
+
+    /**
+     * @return the releases, i.e. versions without prerelease, in precedence order
+     */
+    public Iterable<Semver> releases() {
+        return () -> iterator(false);
+    }
+
+    /**
+     * @return the versions as unmodifiable list
+     */
+    public List<Semver> toList() {
+        return List.of(Arrays.copyOfRange(versions, from, to));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SemverIndex)) {
+            return false;
+        }
+        var index = (SemverIndex) o;
+        return Arrays.equals(versions, from, to, index.versions, index.from, index.to);
+    }
+
+    @Override
+    public int hashCode() {
+        var hash = 1;
+        for (var i = from; i < to; i++) {
+            hash = 31 * hash + versions[i].hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOfRange(versions, from, to));
+    }
+
+    private Iterator<Semver> iterator(boolean includePrereleases) {
+        return new Iterator<>() {
+            private int next = skip(from);
+
+            @Override
+            public boolean hasNext() {
+                return next < to;
+            }
+
+            @Override
+            public Semver next() {
+                if (next >= to) {
+                    throw new NoSuchElementException();
+                }
+                var version = versions[next];
+                next = skip(next + 1);
+                return version;
+            }
+
+            private int skip(int index) {
+                while (!includePrereleases && index < to && versions[index].getPrerel() != null) {
+                    index++;
+                }
+                return index;
+            }
+        };
+    }
+
+    /**
+     * @return index of the version or {@code (-(insertion point) - 1)} as in {@link Arrays#binarySearch(int[], int)}
+     */
+    private int search(Semver version) {
+        return Arrays.binarySearch(versions, from, to, version, ORDER);
+    }
+
+    /**
+     * @return index of the highest version below (or equal to) {@code version}, {@code from - 1} if there is none
+     */
+    private int floorIndex(Semver version, boolean inclusive) {
+        var index = search(version);
+        if (index >= 0) {
+            return inclusive ? index : index - 1;
+        }
+        return -index - 2;
+    }
+
+    /**
+     * @return index of the lowest version above (or equal to) {@code version}, -1 if there is none
+     */
+    private int ceilingIndex(Semver version, boolean inclusive) {
+        var index = search(version);
+        if (index >= 0) {
+            index = inclusive ? index : index + 1;
+        } else {
+            index = -index - 1;
+        }
+        return index < to ? index : -1;
+    }
+
+    /**
+     * Binary search on the version core fields.
+     *
+     * Numbers are compared unsigned, so that {@code OVERSIZED} numbers are greater than all others and a
+     * {@code minor} of -1 matches every minor version.
+     *
+     * @return index of the last version with a major version of {@code major} and a minor version of at most
+     *         {@code minor}, or the index of the version before it
+     */
+    private int lastIndexOf(long major, long minor) {
+        var low = from;
+        var high = to - 1;
+        while (low <= high) {
+            var mid = (low + high) >>> 1;
+            var version = versions[mid];
+            var result = Long.compareUnsigned(version.majorVersion, major);
+            if (result < 0 || (result == 0 && Long.compareUnsigned(version.minorVersion, minor) <= 0)) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private static Semver latest(Semver version, long major, long minor) {
+        return version != null && version.majorVersion == major && (minor < 0 || version.minorVersion == minor)
+                ? version
+                : null;
+    }
+
+    private Semver at(int index) {
+        return index >= from && index < to ? versions[index] : null;
+    }
+
+    private Semver releaseAt(int index) {
+        return index >= from ? at(previousRelease[index]) : null;
+    }
+
+    /**
+     * Collects versions for a new {@link SemverIndex}. Only the added versions are sorted when the index is built,
+     * they are then merged with the versions of the index the builder was created from.
+     * <p>
+     * Instances are not thread safe.
+     */
+    public static final class Builder {
+
+        private SemverIndex base;
+        private final List<Semver> added = new ArrayList<>();
+
+        private Builder(SemverIndex base) {
+            this.base = base;
+        }
+
+        public Builder add(Semver version) {
+            added.add(version);
+            return this;
+        }
+
+        public Builder addAll(Collection<Semver> versions) {
+            added.addAll(versions);
+            return this;
+        }
+
+        /**
+         * Builds an index of the versions of the base index and all added versions. The builder can be used to add
+         * more versions and build again afterwards.
+         */
+        public SemverIndex build() {
+            if (added.isEmpty()) {
+                return base;
+            }
+            var batch = added.toArray(new Semver[0]);
+            added.clear();
+            Arrays.sort(batch, ORDER);
+            base = of(merge(base.versions, base.from, base.to, batch));
+            return base;
+        }
+
+        /**
+         * Merges two sorted arrays, dropping duplicates.
+         */
+        private static Semver[] merge(Semver[] left, int leftFrom, int leftTo, Semver[] right) {
+            var merged = new Semver[leftTo - leftFrom + right.length];
+            var size = 0;
+            var i = leftFrom;
+            var j = 0;
+            while (i < leftTo || j < right.length) {
+                Semver next;
+                if (j == right.length || (i < leftTo && ORDER.compare(left[i], right[j]) <= 0)) {
+                    next = left[i++];
+                } else {
+                    next = right[j++];
+                }
+                if (size == 0 || !merged[size - 1].equals(next)) {
+                    merged[size++] = next;
+                }
+            }
+            return size == merged.length ? merged : Arrays.copyOf(merged, size);
+        }
+    }
+}
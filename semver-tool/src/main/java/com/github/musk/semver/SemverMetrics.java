@@ -0,0 +1,63 @@
+package com.github.musk.semver;
+
+import java.util.ServiceLoader;
+
+/**
+ * Service provider interface for counting the calls of the hot paths of {@link Semver}.
+ * <p>
+ * The implementation is looked up once, the first time a version is parsed, validated, compared or bumped: it is the
+ * class named by the system property {@value #PROVIDER_PROPERTY} or else the first provider registered for this
+ * interface with {@link ServiceLoader}. Without either, {@link #NOOP} is used, whose empty methods are inlined away by
+ * the JIT compiler. {@link CountingSemverMetrics} counts all calls with striped counters.
+ * <p>
+ * Implementations are called from many threads at once, on every call of the instrumented methods, so they must be
+ * thread safe and cheap. They need a public constructor without arguments.
+ */
+public interface SemverMetrics {
+
+    /**
+     * System property with the fully qualified class name of the implementation to use.
+     */
+    String PROVIDER_PROPERTY = "com.github.musk.semver.metrics";
+
+    /**
+     * Implementation that ignores all calls.
+     */
+    SemverMetrics NOOP = new SemverMetrics() {
+    };
+
+    /**
+     * @return the implementation in use
+     */
+    static SemverMetrics installed() {
+        return Instrumentation.metrics();
+    }
+
+    /**
+     * Called for every {@link Semver#parse(String)}, {@link Semver#tryParse(CharSequence)} and their variants.
+     *
+     * @param valid whether the input was a semantic version
+     */
+    default void parsed(boolean valid) {
+    }
+
+    /**
+     * Called for every {@link Semver#validate(String)} and its variants.
+     *
+     * @param valid the result of the validation
+     */
+    default void validated(boolean valid) {
+    }
+
+    /**
+     * Called for every {@link Semver#compareTo(Semver)}.
+     */
+    default void compared() {
+    }
+
+    /**
+     * Called for every bump of a version, e.g. by {@link Semver#minor()}.
+     */
+    default void bumped(Bump bump) {
+    }
+}
@@ -0,0 +1,195 @@
+package com.github.musk.semver;
+
+import java.math.BigInteger;
+
+/**
+ * Single pass scanner for the semantic version grammar.
+ * <p>
+ * Accepts exactly the language of {@link Semver.Grammar#SEMVER_REGEX}, but walks the input once without backtracking
+ * and never throws. Prerelease and build are only recorded as positions, so {@link Semver#validate(String)} does not
+ * allocate any strings. A parser instance is not thread safe and holds the parts of the last parsed version.
+ * <p>
+ * Numbers of any length are accepted. A major, minor or patch version that does not fit into a {@code long} is
+ * recorded as {@link #OVERSIZED}, {@link #bigCore()} returns its exact value.
+ */
+final class SemverParser {
+
+    static final long OVERSIZED = -1;
+    private static final int MAX_LONG_DIGITS = 19;
+
+    long major;
+    long minor;
+    long patch;
+
+    int prerelStart;
+    int prerelEnd;
+    int buildStart;
+    int buildEnd;
+
+    private CharSequence input;
+    private int length;
+    private long number;
+    private int coreStart;
+    private int coreEnd;
+
+    boolean parse(CharSequence version) {
+        input = version;
+        length = version.length();
+        prerelStart = -1;
+        buildStart = -1;
+
+        var pos = 0;
+        if (length > 0 && (version.charAt(0) == 'v' || version.charAt(0) == 'V')) {
+            pos++;
+        }
+        coreStart = pos;
+
+        // version core: NAT '.' NAT '.' NAT
+        if ((pos = scanNumber(pos)) < 0 || !expect(pos++, '.')) {
+            return false;
+        }
+        major = number;
+        if ((pos = scanNumber(pos)) < 0 || !expect(pos++, '.')) {
+            return false;
+        }
+        minor = number;
+        if ((pos = scanNumber(pos)) < 0) {
+            return false;
+        }
+        patch = number;
+        coreEnd = pos;
+
+        if (pos < length && version.charAt(pos) == '-') {
+            prerelStart = ++pos;
+            if ((pos = scanIdentifiers(pos, true)) < 0) {
+                return false;
+            }
+            prerelEnd = pos;
+        }
+        if (pos < length && version.charAt(pos) == '+') {
+            buildStart = ++pos;
+            if ((pos = scanIdentifiers(pos, false)) < 0) {
+                return false;
+            }
+            buildEnd = pos;
+        }
+        return pos == length;
+    }
+
+    /**
+     * Checks a prerelease or build metadata on its own, e.g. after decoding it.
+     *
+     * @param prerelease {@code true} to check a prerelease, {@code false} to check build metadata
+     */
+    boolean parseIdentifiers(CharSequence identifiers, boolean prerelease) {
+        input = identifiers;
+        length = identifiers.length();
+        return scanIdentifiers(0, prerelease) == length;
+    }
+
+    /**
+     * @return major, minor and patch version of the last parsed version if one of them is {@link #OVERSIZED},
+     *         otherwise {@code null}
+     */
+    BigInteger[] bigCore() {
+        if ((major | minor | patch) >= 0) {
+            return null;
+        }
+        var minorStart = indexOf('.', coreStart) + 1;
+        var patchStart = indexOf('.', minorStart) + 1;
+        return new BigInteger[]{number(coreStart, minorStart - 1), number(minorStart, patchStart - 1),
+                number(patchStart, coreEnd)};
+    }
+
+    private int indexOf(char c, int pos) {
+        while (input.charAt(pos) != c) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private BigInteger number(int start, int end) {
+        return new BigInteger(input.subSequence(start, end).toString());
+    }
+
+    /**
+     * @return the prerelease of the last parsed version or {@code null} if there is none
+     */
+    String prerel() {
+        return prerelStart < 0 ? null : input.subSequence(prerelStart, prerelEnd).toString();
+    }
+
+    /**
+     * @return the build metadata of the last parsed version or {@code null} if there is none
+     */
+    String build() {
+        return buildStart < 0 ? null : input.subSequence(buildStart, buildEnd).toString();
+    }
+
+    private boolean expect(int pos, char c) {
+        return pos < length && input.charAt(pos) == c;
+    }
+
+    /**
+     * Scans a NAT ({@code 0|[1-9][0-9]*}) and stores its value, or {@link #OVERSIZED} if it does not fit into a
+     * {@code long}, in {@link #number}.
+     *
+     * @return the index after the number or -1 if there is no valid number at {@code pos}
+     */
+    private int scanNumber(int pos) {
+        var start = pos;
+        var value = 0L;
+        while (pos < length && isDigit(input.charAt(pos))) {
+            value = value * 10 + (input.charAt(pos) - '0');
+            pos++;
+        }
+        var digits = pos - start;
+        if (digits == 0 || (digits > 1 && input.charAt(start) == '0')) {
+            return -1;
+        }
+        // 10^19 < 2^64, so a number of up to 19 digits that does not fit wraps around exactly once
+        number = digits > MAX_LONG_DIGITS || value < 0 ? OVERSIZED : value;
+        return pos;
+    }
+
+    /**
+     * Scans a dot separated, non empty list of identifiers made of {@code [0-9A-Za-z-]}.
+     *
+     * @param prerelease if {@code true} purely numeric identifiers must not have leading zeros (IDENT), otherwise
+     *                   any identifier is accepted (FIELD)
+     * @return the index after the last identifier or -1 if the identifiers are malformed
+     */
+    private int scanIdentifiers(int pos, boolean prerelease) {
+        while (true) {
+            var start = pos;
+            var numeric = true;
+            while (pos < length) {
+                var c = input.charAt(pos);
+                if (isDigit(c)) {
+                    pos++;
+                } else if (isNonDigit(c)) {
+                    numeric = false;
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            if (pos == start || (prerelease && numeric && pos - start > 1 && input.charAt(start) == '0')) {
+                return -1;
+            }
+            if (pos < length && input.charAt(pos) == '.') {
+                pos++;
+            } else {
+                return pos;
+            }
+        }
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static boolean isNonDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-';
+    }
+}
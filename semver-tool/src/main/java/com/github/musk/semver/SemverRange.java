@@ -0,0 +1,626 @@
+package com.github.musk.semver;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Set of versions described by a range expression like {@code >=1.2.0 <2.0.0}, {@code ^1.4}, {@code ~2.3.1} or
+ * {@code 1.x || >=3.0.0-rc.1}.
+ * <p>
+ * The expression is compiled once into a sorted list of disjoint intervals of version precedence, so
+ * {@link #test(Semver)} is a single binary search over the interval bounds. Build metadata is ignored, as it does not
+ * take part in precedence. Ranges are immutable and support set algebra: {@link #union(SemverRange)},
+ * {@link #intersect(SemverRange)}, {@link #complement()} and {@link #isSubsetOf(SemverRange)}.
+ * <p>
+ * Supported syntax, following the npm semver conventions:
+ * <ul>
+ * <li>{@code range || range}: union of ranges</li>
+ * <li>{@code comparator comparator}: whitespace separated comparators must all match</li>
+ * <li>{@code <}, {@code <=}, {@code >}, {@code >=} and {@code =} followed by a version</li>
+ * <li>{@code 1.2.3 - 2.3.4}: inclusive hyphen range</li>
+ * <li>{@code ~1.2.3}: patch updates, {@code >=1.2.3 <1.3.0-0}</li>
+ * <li>{@code ^1.2.3}: updates that do not change the leftmost non-zero part, {@code >=1.2.3 <2.0.0-0}</li>
+ * <li>{@code 1.x}, {@code 1.2.*}, {@code 1}, {@code *}: x-ranges, missing parts are wildcards</li>
+ * </ul>
+ * Upper bounds derived from partial versions exclude the prereleases of the next version, e.g. {@code <=1.2} is
+ * {@code <1.3.0-0}. Lower bounds of {@code >} and {@code >=} with partial versions include them, so that a comparator
+ * and its opposite split all versions between them: {@code >1.2} is {@code >=1.3.0-0} and {@code >=1.2} is
+ * {@code >=1.2.0-0}. Unlike npm, prereleases are otherwise treated like any other version.
+ */
+public final class SemverRange implements Predicate<Semver> {
+
+    /** The version with the lowest precedence, every range starts at or after it. */
+    private static final Semver MIN = new Semver(0, 0, 0, "0", null);
+
+    private static final SemverRange ALL = new SemverRange(List.of(new Interval(MIN, true, null, false)));
+    private static final SemverRange NONE = new SemverRange(List.of());
+
+    private final Semver[] lower;
+    private final boolean[] lowerInclusive;
+    /** {@code null} for an unbounded interval */
+    private final Semver[] upper;
+    private final boolean[] upperInclusive;
+
+    private SemverRange(List<Interval> normalized) {
+        var size = normalized.size();
+        lower = new Semver[size];
+        lowerInclusive = new boolean[size];
+        upper = new Semver[size];
+        upperInclusive = new boolean[size];
+        for (var i = 0; i < size; i++) {
+            var interval = normalized.get(i);
+            lower[i] = interval.lower;
+            lowerInclusive[i] = interval.lowerInclusive;
+            upper[i] = interval.upper;
+            upperInclusive[i] = interval.upperInclusive;
+        }
+    }
+
+    /**
+     * Compiles a range expression.
+     *
+     * @throws IllegalArgumentException if {@code expression} is not a valid range
+     */
+    public static SemverRange parse(String expression) throws IllegalArgumentException {
+        var intervals = new ArrayList<Interval>();
+        var start = 0;
+        while (true) {
+            var end = expression.indexOf("||", start);
+            var range = parseRange(expression, expression.substring(start, end < 0 ? expression.length() : end));
+            if (range != null) {
+                intervals.add(range);
+            }
+            if (end < 0) {
+                return of(intervals);
+            }
+            start = end + 2;
+        }
+    }
+
+    /**
+     * @return the range of all versions
+     */
+    public static SemverRange all() {
+        return ALL;
+    }
+
+    /**
+     * @return the empty range
+     */
+    public static SemverRange none() {
+        return NONE;
+    }
+
+    /**
+     * @return the range only containing versions with the same precedence as {@code version}
+     */
+    public static SemverRange exactly(Semver version) {
+        var bound = withoutBuild(version);
+        return of(List.of(new Interval(bound, true, bound, true)));
+    }
+
+    /**
+     * @return the range of versions with a precedence of at least {@code version}
+     */
+    public static SemverRange atLeast(Semver version) {
+        return of(List.of(new Interval(withoutBuild(version), true, null, false)));
+    }
+
+    /**
+     * @return the range of versions with a lower precedence than {@code version}
+     */
+    public static SemverRange lessThan(Semver version) {
+        return of(List.of(new Interval(MIN, true, withoutBuild(version), false)));
+    }
+
+    /**
+     * Tests if {@code version} is in this range. Does not allocate.
+     */
+    @Override
+    public boolean test(Semver version) {
+        // find the last interval starting at or before the version
+        var low = 0;
+        var high = lower.length - 1;
+        while (low <= high) {
+            var mid = (low + high) >>> 1;
+            var result = lower[mid].comparePrecedence(version);
+            if (result < 0 || (result == 0 && lowerInclusive[mid])) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0) {
+            return false;
+        }
+        if (upper[high] == null) {
+            return true;
+        }
+        var result = version.comparePrecedence(upper[high]);
+        return result < 0 || (result == 0 && upperInclusive[high]);
+    }
+
+    /**
+     * @return {@code true} if no version is in this range
+     */
+    public boolean isEmpty() {
+        return lower.length == 0;
+    }
+
+    /**
+     * @return the range of versions in this or the other range
+     */
+    public SemverRange union(SemverRange other) {
+        var intervals = intervals();
+        intervals.addAll(other.intervals());
+        return of(intervals);
+    }
+
+    /**
+     * @return the range of versions in this and the other range
+     */
+    public SemverRange intersect(SemverRange other) {
+        var result = new ArrayList<Interval>();
+        var i = 0;
+        var j = 0;
+        while (i < lower.length && j < other.lower.length) {
+            var left = interval(i);
+            var right = other.interval(j);
+            var intersection = left.intersect(right);
+            if (intersection != null) {
+                result.add(intersection);
+            }
+            // the interval ending first cannot intersect with any later interval of the other range
+            if (compareUpper(left.upper, left.upperInclusive, right.upper, right.upperInclusive) < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return of(result);
+    }
+
+    /**
+     * @return the range of versions not in this range
+     */
+    public SemverRange complement() {
+        var result = new ArrayList<Interval>();
+        Semver start = MIN;
+        var startInclusive = true;
+        for (var i = 0; i < lower.length; i++) {
+            result.add(new Interval(start, startInclusive, lower[i], !lowerInclusive[i]));
+            if (upper[i] == null) {
+                return of(result);
+            }
+            start = upper[i];
+            startInclusive = !upperInclusive[i];
+        }
+        result.add(new Interval(start, startInclusive, null, false));
+        return of(result);
+    }
+
+    /**
+     * @return {@code true} if every version in this range is also in the other range
+     */
+    public boolean isSubsetOf(SemverRange other) {
+        return intersect(other.complement()).isEmpty();
+    }
+
+    /**
+     * @return {@code true} if at least one version is in both ranges
+     */
+    public boolean intersects(SemverRange other) {
+        return !intersect(other).isEmpty();
+    }
+
+    /**
+     * @return the normalized expression of this range, which {@link #parse(String)} compiles to an equal range
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "<" + MIN;
+        }
+        var text = new StringBuilder();
+        for (var i = 0; i < lower.length; i++) {
+            if (i > 0) {
+                text.append(" || ");
+            }
+            var unboundedLower = lowerInclusive[i] && lower[i].equals(MIN);
+            if (upper[i] != null && lower[i].equals(upper[i])) {
+                text.append(lower[i]);
+                continue;
+            } else if (unboundedLower && upper[i] == null) {
+                text.append('*');
+                continue;
+            }
+            if (!unboundedLower) {
+                text.append(lowerInclusive[i] ? ">=" : ">").append(lower[i]);
+            }
+            if (upper[i] != null) {
+                text.append(unboundedLower ? "" : " ").append(upperInclusive[i] ? "<=" : "<").append(upper[i]);
+            }
+        }
+        return text.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SemverRange)) {
+            return false;
+        }
+        var range = (SemverRange) o;
+        return Arrays.equals(lower, range.lower) && Arrays.equals(lowerInclusive, range.lowerInclusive) && Arrays
+                .equals(upper, range.upper) && Arrays.equals(upperInclusive, range.upperInclusive);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(lower) + Arrays.hashCode(upper);
+    }
+
+    private Interval interval(int index) {
+        return new Interval(lower[index], lowerInclusive[index], upper[index], upperInclusive[index]);
+    }
+
+    private List<Interval> intervals() {
+        var intervals = new ArrayList<Interval>(lower.length);
+        for (var i = 0; i < lower.length; i++) {
+            intervals.add(interval(i));
+        }
+        return intervals;
+    }
+
+    /**
+     * Drops empty intervals, sorts the others and merges overlapping or adjacent ones.
+     */
+    private static SemverRange of(List<Interval> intervals) {
+        var sorted = new ArrayList<Interval>(intervals.size());
+        for (var interval : intervals) {
+            if (!interval.isEmpty()) {
+                sorted.add(interval);
+            }
+        }
+        sorted.sort(Comparator.naturalOrder());
+        var merged = new ArrayList<Interval>(sorted.size());
+        for (var interval : sorted) {
+            var last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && last.touches(interval)) {
+                merged.set(merged.size() - 1, last.span(interval));
+            } else {
+                merged.add(interval);
+            }
+        }
+        return merged.isEmpty() ? NONE : new SemverRange(merged);
+    }
+
+    private static int compareLower(Semver a, boolean aInclusive, Semver b, boolean bInclusive) {
+        var result = a.comparePrecedence(b);
+        if (result != 0) {
+            return result;
+        }
+        // an inclusive lower bound starts before an exclusive one
+        return Boolean.compare(!aInclusive, !bInclusive);
+    }
+
+    private static int compareUpper(Semver a, boolean aInclusive, Semver b, boolean bInclusive) {
+        if (a == null || b == null) {
+            return Boolean.compare(a == null, b == null);
+        }
+        var result = a.comparePrecedence(b);
+        if (result != 0) {
+            return result;
+        }
+        // an exclusive upper bound ends before an inclusive one
+        return Boolean.compare(aInclusive, bInclusive);
+    }
+
+    private static Semver withoutBuild(Semver version) {
+        return version.getBuild() == null ? version : version.toBuilder().withBuild(null).build();
+    }
+
+    /**
+     * Parses the comparators between two {@code ||} into a single interval.
+     *
+     * @return the interval or {@code null} if the comparators exclude each other
+     */
+    private static Interval parseRange(String expression, String range) {
+        var tokens = tokenize(range);
+        if (tokens.isEmpty()) {
+            return ALL.interval(0);
+        }
+        if (tokens.size() == 3 && tokens.get(1).equals("-")) {
+            var from = Partial.parse(expression, tokens.get(0));
+            var to = Partial.parse(expression, tokens.get(2));
+            var lower = from.parts == 0 ? ALL.interval(0) : new Interval(from.floor(), true, null, false);
+            var upper = to.parts == 0 ? ALL.interval(0)
+                    : to.version != null ? new Interval(MIN, true, to.version, true)
+                    : new Interval(MIN, true, to.ceiling(), false);
+            return lower.intersect(upper);
+        }
+        var result = ALL.interval(0);
+        for (var token : tokens) {
+            var comparator = parseComparator(expression, token);
+            result = result == null || comparator == null ? null : result.intersect(comparator);
+        }
+        return result;
+    }
+
+    /**
+     * Splits a range at whitespace, keeping operators together with the version that follows them.
+     */
+    private static List<String> tokenize(String range) {
+        var tokens = new ArrayList<String>();
+        var operator = "";
+        var i = 0;
+        while (i < range.length()) {
+            if (Character.isWhitespace(range.charAt(i))) {
+                i++;
+                continue;
+            }
+            var start = i;
+            while (i < range.length() && !Character.isWhitespace(range.charAt(i))) {
+                i++;
+            }
+            var token = range.substring(start, i);
+            if (isOperator(token)) {
+                operator += token;
+            } else {
+                tokens.add(operator + token);
+                operator = "";
+            }
+        }
+        if (!operator.isEmpty()) {
+            tokens.add(operator);
+        }
+        return tokens;
+    }
+
+    private static boolean isOperator(String token) {
+        switch (token) {
+            case "<":
+            case "<=":
+            case ">":
+            case ">=":
+            case "=":
+            case "~":
+            case "~>":
+            case "^":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static Interval parseComparator(String expression, String comparator) {
+        var operator = comparator.startsWith("~>") ? "~>"
+                : comparator.startsWith("<=") || comparator.startsWith(">=") ? comparator.substring(0, 2)
+                : !comparator.isEmpty() && "<>=~^".indexOf(comparator.charAt(0)) >= 0 ? comparator.substring(0, 1)
+                : "";
+        var partial = Partial.parse(expression, comparator.substring(operator.length()));
+        if (partial.parts == 0) {
+            // <* and >* match nothing, everything else matches all versions
+            return operator.equals("<") || operator.equals(">") ? null : ALL.interval(0);
+        }
+        switch (operator) {
+            case "<":
+                return new Interval(MIN, true, partial.version != null ? partial.version : partial.floorPrerelease(),
+                        false);
+            case "<=":
+                return partial.version != null ? new Interval(MIN, true, partial.version, true)
+                        : new Interval(MIN, true, partial.ceiling(), false);
+            case ">":
+                if (partial.version != null) {
+                    return new Interval(partial.version, false, null, false);
+                }
+                return new Interval(partial.ceiling(), true, null, false);
+            case ">=":
+                return new Interval(partial.version != null ? partial.version : partial.floorPrerelease(), true, null,
+                        false);
+            case "~":
+            case "~>":
+                return new Interval(partial.floor(), true,
+                        partial.parts < 2 ? partial.nextMajor() : partial.nextMinor(), false);
+            case "^":
+                return new Interval(partial.floor(), true, partial.caretCeiling(), false);
+            default:
+                return partial.version != null ? new Interval(partial.version, true, partial.version, true)
+                        : new Interval(partial.floor(), true, partial.ceiling(), false);
+        }
+    }
+
+    private static IllegalArgumentException invalidRange(String expression) {
+        return new IllegalArgumentException("Invalid version range '" + expression + "'");
+    }
+
+    /**
+     * A version with possibly missing or wildcard parts like {@code 1.2}, {@code 1.x} or {@code *}.
+     */
+    private static final class Partial {
+
+        /** number of leading numeric parts, 0 for {@code *} */
+        private final int parts;
+        /** the lowest version matching this partial, {@code null} for {@code *} */
+        private final Semver floor;
+        /** the version if no part is missing, without build metadata */
+        private final Semver version;
+
+        private Partial(int parts, Semver floor, Semver version) {
+            this.parts = parts;
+            this.floor = floor;
+            this.version = version;
+        }
+
+        static Partial parse(String expression, String text) {
+            // the parser skips the prefix itself, stripping it here as well would accept two
+            var complete = Semver.tryParse(text);
+            if (complete.isPresent()) {
+                var version = withoutBuild(complete.get());
+                return new Partial(3, version, version);
+            }
+            var start = !text.isEmpty() && (text.charAt(0) == 'v' || text.charAt(0) == 'V') ? 1 : 0;
+            var numbers = new BigInteger[]{BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO};
+            var parts = 0;
+            var count = 0;
+            while (start < text.length()) {
+                var end = text.indexOf('.', start);
+                end = end < 0 ? text.length() : end;
+                if (count == numbers.length || end == start) {
+                    throw invalidRange(expression);
+                }
+                var number = parsePart(expression, text.substring(start, end));
+                // all parts after a wildcard are wildcards
+                if (number != null && parts == count) {
+                    numbers[parts++] = number;
+                }
+                count++;
+                start = end + 1;
+                if (end == text.length() - 1) {
+                    // trailing dot
+                    throw invalidRange(expression);
+                }
+            }
+            if (count == 0) {
+                throw invalidRange(expression);
+            }
+            var floor = parts == 0 ? null
+                    : Semver.builder().withMajor(numbers[0]).withMinor(numbers[1]).withPatch(numbers[2]).build();
+            return new Partial(parts, floor, null);
+        }
+
+        /**
+         * @return the number or {@code null} for a wildcard
+         */
+        private static BigInteger parsePart(String expression, String part) {
+            if (part.equals("x") || part.equals("X") || part.equals("*")) {
+                return null;
+            }
+            for (var i = 0; i < part.length(); i++) {
+                if (!SemverParser.isDigit(part.charAt(i)) || (i == 1 && part.charAt(0) == '0')) {
+                    throw invalidRange(expression);
+                }
+            }
+            return new BigInteger(part);
+        }
+
+        /**
+         * @return the lowest release matching this partial, e.g. {@code 1.2.0} for {@code 1.2}
+         */
+        Semver floor() {
+            return floor;
+        }
+
+        /**
+         * @return the lowest version matching this partial, e.g. {@code 1.2.0-0} for {@code 1.2}
+         */
+        Semver floorPrerelease() {
+            return floor.toBuilder().withPrerel("0").build();
+        }
+
+        /**
+         * @return the exclusive upper bound of all versions matching this partial
+         */
+        Semver ceiling() {
+            return parts < 2 ? nextMajor() : parts < 3 ? nextMinor() : nextPatch();
+        }
+
+        /**
+         * @return the exclusive upper bound of a caret range
+         */
+        Semver caretCeiling() {
+            // an oversized number is not 0 either
+            if (floor.majorVersion != 0 || parts < 2) {
+                return nextMajor();
+            } else if (floor.minorVersion != 0 || parts < 3) {
+                return nextMinor();
+            }
+            return nextPatch();
+        }
+
+        Semver nextMajor() {
+            return next(Bump.MAJOR);
+        }
+
+        Semver nextMinor() {
+            return next(Bump.MINOR);
+        }
+
+        Semver nextPatch() {
+            return next(Bump.PATCH);
+        }
+
+        private Semver next(Bump bump) {
+            return floor.toBuilder().increment(bump).withPrerel("0").build();
+        }
+    }
+
+    /**
+     * Interval of versions from a lower to an (optionally unbounded) upper bound.
+     */
+    private static final class Interval implements Comparable<Interval> {
+
+        private final Semver lower;
+        private final boolean lowerInclusive;
+        private final Semver upper;
+        private final boolean upperInclusive;
+
+        Interval(Semver lower, boolean lowerInclusive, Semver upper, boolean upperInclusive) {
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive;
+            this.upper = upper;
+            this.upperInclusive = upperInclusive && upper != null;
+        }
+
+        boolean isEmpty() {
+            if (upper == null) {
+                return false;
+            }
+            var result = lower.comparePrecedence(upper);
+            return result > 0 || (result == 0 && !(lowerInclusive && upperInclusive));
+        }
+
+        /**
+         * @return the intersection or {@code null} if it is empty
+         */
+        Interval intersect(Interval other) {
+            var lowerFirst = compareLower(lower, lowerInclusive, other.lower, other.lowerInclusive) >= 0;
+            var upperFirst = compareUpper(upper, upperInclusive, other.upper, other.upperInclusive) <= 0;
+            var result = new Interval(lowerFirst ? lower : other.lower,
+                    lowerFirst ? lowerInclusive : other.lowerInclusive, upperFirst ? upper : other.upper,
+                    upperFirst ? upperInclusive : other.upperInclusive);
+            return result.isEmpty() ? null : result;
+        }
+
+        /**
+         * @param next an interval that does not start before this one
+         * @return {@code true} if the union of both intervals is a single interval
+         */
+        boolean touches(Interval next) {
+            if (upper == null) {
+                return true;
+            }
+            var result = next.lower.comparePrecedence(upper);
+            return result < 0 || (result == 0 && (upperInclusive || next.lowerInclusive));
+        }
+
+        /**
+         * @param next an interval that does not start before this one
+         */
+        Interval span(Interval next) {
+            return compareUpper(upper, upperInclusive, next.upper, next.upperInclusive) >= 0 ? this
+                    : new Interval(lower, lowerInclusive, next.upper, next.upperInclusive);
+        }
+
+        @Override
+        public int compareTo(Interval other) {
+            return compareLower(lower, lowerInclusive, other.lower, other.lowerInclusive);
+        }
+    }
+}
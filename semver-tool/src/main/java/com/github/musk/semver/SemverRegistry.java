@@ -0,0 +1,210 @@
+package com.github.musk.semver;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Thread safe registry of the highest release and the highest prerelease per key, e.g. per artifact coordinate.
+ * <p>
+ * {@link #offer(Object, Semver)} updates the maxima of a key with a compare-and-set loop on the key's entry and never
+ * locks once the key is known, reads never lock at all. Offers that do not advance a maximum, the common case when
+ * many publishers report the same versions, do not write to shared memory, so they scale with the number of threads.
+ * Versions are ordered by {@link Semver#compareTo(Semver)}.
+ * <p>
+ * {@link Listener Listeners} are called by the offering thread after a maximum advanced. Concurrent offers for the
+ * same key may notify in a different order than they advanced the maximum, but {@code previous} and {@code current}
+ * of every notification are the values that were exchanged.
+ *
+ * @param <K> type of the keys, must be usable as key of a {@link ConcurrentHashMap}
+ */
+public final class SemverRegistry<K> {
+
+    /**
+     * Callback for advanced maxima.
+     *
+     * @param <K> type of the keys
+     */
+    @FunctionalInterface
+    public interface Listener<K> {
+
+        /**
+         * Called after the highest release or the highest prerelease of {@code key} advanced.
+         *
+         * @param key      the key whose maximum changed
+         * @param previous the previous maximum or {@code null} if {@code current} is the first release respectively
+         *                 prerelease of {@code key}
+         * @param current  the new maximum
+         */
+        void maximumChanged(K key, Semver previous, Semver current);
+    }
+
+    private final ConcurrentHashMap<K, Entry> entries = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<Listener<K>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Records {@code version} for {@code key}.
+     *
+     * @return {@code true} if {@code version} is the new highest release or highest prerelease of {@code key}
+     * @throws IllegalArgumentException if {@code version} is {@code null}
+     */
+    public boolean offer(K key, Semver version) {
+        if (version == null) {
+            throw new IllegalArgumentException("Version ´null´ is invalid");
+        }
+        var entry = entries.get(key);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(key, k -> new Entry());
+        }
+        var updater = version.getPrerel() == null ? Entry.RELEASE : Entry.PRERELEASE;
+        Semver current;
+        do {
+            current = updater.get(entry);
+            if (current != null && version.compareTo(current) <= 0) {
+                return false;
+            }
+        } while (!updater.compareAndSet(entry, current, version));
+
+        for (var listener : listeners) {
+            listener.maximumChanged(key, current, version);
+        }
+        return true;
+    }
+
+    /**
+     * @return the highest release offered for {@code key} or {@code null} if there is none
+     */
+    public Semver latestRelease(K key) {
+        var entry = entries.get(key);
+        return entry != null ? entry.release : null;
+    }
+
+    /**
+     * @return the highest prerelease offered for {@code key} or {@code null} if there is none
+     */
+    public Semver latestPrerelease(K key) {
+        var entry = entries.get(key);
+        return entry != null ? entry.prerelease : null;
+    }
+
+    /**
+     * @return the highest version offered for {@code key}, release or prerelease, or {@code null} if there is none
+     */
+    public Semver latest(K key) {
+        var entry = entries.get(key);
+        return entry != null ? entry.snapshot().latest() : null;
+    }
+
+    /**
+     * Copies the maxima of all keys. The copy is not an atomic snapshot of the whole registry: it contains every key
+     * offered before the call and the maxima of each key as they were when the key was copied.
+     *
+     * @return an unmodifiable map from key to its maxima
+     */
+    public Map<K, Latest> snapshot() {
+        var snapshot = new LinkedHashMap<K, Latest>();
+        entries.forEach((key, entry) -> snapshot.put(key, entry.snapshot()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * @return number of keys with at least one offered version
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public void addListener(Listener<K> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener ´null´ is invalid");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener<K> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * The highest release and the highest prerelease of a key.
+     */
+    public static final class Latest {
+
+        private final Semver release;
+        private final Semver prerelease;
+
+        Latest(Semver release, Semver prerelease) {
+            this.release = release;
+            this.prerelease = prerelease;
+        }
+
+        /**
+         * @return the highest release or {@code null} if there is none
+         */
+        public Semver release() {
+            return release;
+        }
+
+        /**
+         * @return the highest prerelease or {@code null} if there is none
+         */
+        public Semver prerelease() {
+            return prerelease;
+        }
+
+        /**
+         * @return the higher of {@link #release()} and {@link #prerelease()}
+         */
+        public Semver latest() {
+            if (release == null) {
+                return prerelease;
+            }
+            return prerelease == null || release.compareTo(prerelease) > 0 ? release : prerelease;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Latest)) {
+                return false;
+            }
+            var latest = (Latest) o;
+            return Objects.equals(release, latest.release)
+                    && Objects.equals(prerelease, latest.prerelease);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(release, prerelease);
+        }
+
+        @Override
+        public String toString() {
+            return "{release=" + release + ", prerelease=" + prerelease + "}";
+        }
+    }
+
+    /**
+     * Mutable maxima of a key. Field updaters instead of two {@code AtomicReference}s save two objects per key.
+     */
+    private static final class Entry {
+
+        static final AtomicReferenceFieldUpdater<Entry, Semver> RELEASE =
+                AtomicReferenceFieldUpdater.newUpdater(Entry.class, Semver.class, "release");
+        static final AtomicReferenceFieldUpdater<Entry, Semver> PRERELEASE =
+                AtomicReferenceFieldUpdater.newUpdater(Entry.class, Semver.class, "prerelease");
+
+        volatile Semver release;
+        volatile Semver prerelease;
+
+        Latest snapshot() {
+            return new Latest(release, prerelease);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.github.musk.semver;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Rewrites the versions in text files, e.g. bumps the version of a release in all {@code pom.xml},
+ * {@code package-lock.json} and version catalog files of a project.
+ * <p>
+ * A version token is a maximal run of the characters {@code [0-9A-Za-z.+-]} that is a semantic version as a whole, so
+ * {@code 1.2.3} is found in {@code <version>1.2.3</version>} and {@code "version": "1.2.3"}, but not in
+ * {@code foo-1.2.3.jar}. Runs longer than 256 characters, like hashes and encoded blobs, are skipped. Tokens whose
+ * version matches the {@link #filter(Predicate) filter} are replaced by the result of the operator, a {@code v} prefix
+ * is kept.
+ * <p>
+ * The file is memory mapped in regions and scanned in small windows, so memory use does not depend on the file size.
+ * Unchanged bytes between replaced tokens are copied with
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)} if there are many of them and through a small
+ * output buffer otherwise. A file without any replaced token is not written at all. Otherwise the result is written
+ * to a temporary file next to the target, which then replaces the target.
+ */
+public final class SemverRewriter {
+
+    private static final int WINDOW_SIZE = 64 << 10;
+    private static final long REGION_SIZE = 64 << 20;
+    private static final int MAX_TOKEN_LENGTH = 256;
+    private static final int TRANSFER_THRESHOLD = 16 << 10;
+    private static final boolean[] TOKEN = new boolean[256];
+
+    static {
+        for (var c = 0; c < TOKEN.length; c++) {
+            TOKEN[c] = SemverParser.isDigit((char) c) || SemverParser.isNonDigit((char) c) || c == '.' || c == '+';
+        }
+    }
+
+    private final UnaryOperator<Semver> operator;
+    private final Predicate<Semver> filter;
+
+    private SemverRewriter(UnaryOperator<Semver> operator, Predicate<Semver> filter) {
+        this.operator = operator;
+        this.filter = filter;
+    }
+
+    /**
+     * @return a rewriter that bumps all versions
+     */
+    public static SemverRewriter of(Bump bump) {
+        if (bump == null) {
+            throw new IllegalArgumentException("Bump ´null´ is unkown");
+        }
+        return new SemverRewriter(version -> version.bump(bump), version -> true);
+    }
+
+    /**
+     * @param operator computes the replacement of a version, {@code null} keeps the version
+     * @return a rewriter that replaces all versions
+     */
+    public static SemverRewriter of(UnaryOperator<Semver> operator) {
+        if (operator == null) {
+            throw new IllegalArgumentException("Operator ´null´ is invalid");
+        }
+        return new SemverRewriter(operator, version -> true);
+    }
+
+    /**
+     * @return a rewriter that only replaces the versions that match {@code filter} and the filters of this rewriter
+     */
+    public SemverRewriter filter(Predicate<Semver> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter ´null´ is invalid");
+        }
+        return new SemverRewriter(operator, this.filter.and(filter));
+    }
+
+    /**
+     * Rewrites the versions of {@code file} in place.
+     *
+     * @return number of replaced versions
+     * @throws IOException if the file cannot be read or written
+     */
+    public long rewrite(Path file) throws IOException {
+        return rewrite(file, file);
+    }
+
+    /**
+     * Writes {@code source} with rewritten versions to {@code target}. {@code source} and {@code target} may be the
+     * same file.
+     *
+     * @return number of replaced versions
+     * @throws IOException if the source cannot be read or the target cannot be written
+     */
+    public long rewrite(Path source, Path target) throws IOException {
+        var inPlace = source.equals(target) || (Files.exists(target) && Files.isSameFile(source, target));
+        try (var channel = FileChannel.open(source, StandardOpenOption.READ);
+                var rewrite = new Rewrite(channel, target)) {
+            var count = rewrite.run();
+            if (count > 0) {
+                rewrite.commit();
+            } else if (!inPlace) {
+                Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * State of one rewrite. The output file is only created when the first version is replaced.
+     */
+    private final class Rewrite implements AutoCloseable {
+
+        private final FileChannel source;
+        private final Path target;
+        private final SemverParser parser = new SemverParser();
+        private final byte[] window = new byte[WINDOW_SIZE];
+        /** start of a token that began in the previous window */
+        private final byte[] carry = new byte[MAX_TOKEN_LENGTH];
+        private final ByteBuffer output = ByteBuffer.allocate(WINDOW_SIZE);
+        private long windowPosition;
+        private int carryLength;
+        /** position in the source up to which the output is written */
+        private long copied;
+        private long count;
+        private Path temp;
+        private FileChannel out;
+
+        Rewrite(FileChannel source, Path target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        long run() throws IOException {
+            var size = source.size();
+            var tokenStart = -1L;
+            MappedByteBuffer region = null;
+            while (windowPosition < size) {
+                if (region == null || !region.hasRemaining()) {
+                    var length = Math.min(REGION_SIZE, size - windowPosition);
+                    region = source.map(MapMode.READ_ONLY, windowPosition, length);
+                }
+                var filled = Math.min(region.remaining(), window.length);
+                region.get(window, 0, filled);
+                for (var i = 0; i < filled; i++) {
+                    if (TOKEN[window[i] & 0xFF]) {
+                        if (tokenStart < 0) {
+                            tokenStart = windowPosition + i;
+                        }
+                    } else if (tokenStart >= 0) {
+                        token(tokenStart, windowPosition + i);
+                        tokenStart = -1;
+                    }
+                }
+                if (tokenStart >= 0) {
+                    keep(tokenStart, filled);
+                }
+                windowPosition += filled;
+            }
+            if (tokenStart >= 0) {
+                // the last token is completely in the carry
+                token(tokenStart, size);
+            }
+            if (count > 0) {
+                copyUntil(size);
+                flush();
+            }
+            return count;
+        }
+
+        /**
+         * Keeps the part of an unfinished token that is in the current window.
+         */
+        private void keep(long tokenStart, int filled) {
+            var from = (int) Math.max(0, tokenStart - windowPosition);
+            var length = filled - from;
+            if (carryLength + length <= carry.length) {
+                System.arraycopy(window, from, carry, carryLength, length);
+            }
+            carryLength += length;
+        }
+
+        private void token(long start, long end) throws IOException {
+            var length = (int) Math.min(end - start, Integer.MAX_VALUE);
+            var carried = carryLength;
+            carryLength = 0;
+            if (length > MAX_TOKEN_LENGTH) {
+                return;
+            }
+            byte[] bytes;
+            int offset;
+            if (carried > 0) {
+                // the token started in the previous window
+                System.arraycopy(window, 0, carry, carried, length - carried);
+                bytes = carry;
+                offset = 0;
+            } else {
+                bytes = window;
+                offset = (int) (start - windowPosition);
+            }
+            if (!parser.parse(new AsciiSequence(bytes, offset, length))) {
+                return;
+            }
+            var version = new Semver(parser);
+            if (!filter.test(version)) {
+                return;
+            }
+            var replacement = operator.apply(version);
+            if (replacement == null) {
+                return;
+            }
+            var prefix = bytes[offset] == 'v' || bytes[offset] == 'V' ? 1 : 0;
+            var text = replacement.toString();
+            if (same(text, bytes, offset + prefix, length - prefix)) {
+                return;
+            }
+            copyUntil(start + prefix);
+            write(text);
+            copied = end;
+            count++;
+        }
+
+        private boolean same(String text, byte[] bytes, int offset, int length) {
+            if (text.length() != length) {
+                return false;
+            }
+            for (var i = 0; i < length; i++) {
+                if (text.charAt(i) != bytes[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Writes the unchanged source bytes up to {@code position}, from the window if they are few and still in it,
+         * otherwise by a transfer between the channels.
+         */
+        private void copyUntil(long position) throws IOException {
+            var gap = position - copied;
+            if (gap == 0) {
+                return;
+            }
+            if (copied >= windowPosition && gap < TRANSFER_THRESHOLD) {
+                write(window, (int) (copied - windowPosition), (int) gap);
+            } else {
+                flush();
+                var channel = out();
+                var transferred = 0L;
+                while (transferred < gap) {
+                    transferred += source.transferTo(copied + transferred, gap - transferred, channel);
+                }
+            }
+            copied = position;
+        }
+
+        private void write(String text) throws IOException {
+            for (var i = 0; i < text.length(); i++) {
+                if (!output.hasRemaining()) {
+                    flush();
+                }
+                output.put((byte) text.charAt(i));
+            }
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+            if (output.remaining() < length) {
+                flush();
+            }
+            output.put(bytes, offset, length);
+        }
+
+        private void flush() throws IOException {
+            output.flip();
+            var channel = out();
+            while (output.hasRemaining()) {
+                channel.write(output);
+            }
+            output.clear();
+        }
+
+        private FileChannel out() throws IOException {
+            if (out == null) {
+                var directory = target.toAbsolutePath().getParent();
+                temp = Files.createTempFile(directory, "." + target.getFileName(), ".tmp");
+                if (Files.exists(target) && Files.getFileStore(temp).supportsFileAttributeView("posix")) {
+                    Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+                }
+                out = FileChannel.open(temp, StandardOpenOption.WRITE);
+            }
+            return out;
+        }
+
+        /**
+         * Replaces the target with the written output.
+         */
+        void commit() throws IOException {
+            out.close();
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temp = null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) {
+                out.close();
+            }
+            if (temp != null) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.github.musk.semver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Sorting and selection of versions, specialized for large collections.
+ * <p>
+ * {@link #parallelSort(Semver[])} packs the version core of every element into a {@code long} key and sorts the keys
+ * with a parallel radix sort, so that {@link Semver#compareTo(Semver)} is only needed to order versions with the same
+ * version core, i.e. prereleases and build metadata.
+ */
+public final class SemverSort {
+
+    private static final int CORE_BITS = 21;
+    private static final int CORE_LIMIT = 1 << CORE_BITS;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    /** below this size a comparison sort is faster than computing the keys */
+    private static final int RADIX_THRESHOLD = 1 << 12;
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+    private static final int MIN_HEAP_CAPACITY = 16;
+
+    private SemverSort() {
+    }
+
+    /**
+     * Sorts {@code versions} in place into the order of {@link Semver#compareTo(Semver)}. The sort is stable.
+     * <p>
+     * Falls back to {@link Arrays#parallelSort(Comparable[])} if a major, minor or patch version is
+     * {@code >= 2^21}.
+     */
+    public static void parallelSort(Semver[] versions) {
+        var size = versions.length;
+        if (size < RADIX_THRESHOLD) {
+            Arrays.sort(versions);
+            return;
+        }
+        var chunks = chunks(size);
+        var keys = new long[size];
+        var packable = IntStream.range(0, chunks).parallel().allMatch(chunk -> {
+            for (var i = from(chunk, chunks, size); i < from(chunk + 1, chunks, size); i++) {
+                keys[i] = key(versions[i]);
+                if (keys[i] < 0) {
+                    return false;
+                }
+            }
+            return true;
+        });
+        if (!packable) {
+            Arrays.parallelSort(versions);
+            return;
+        }
+        radixSort(keys, versions, chunks);
+        // versions with the same core are adjacent now, only they need to be compared
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            var start = from(chunk, chunks, size);
+            var end = from(chunk + 1, chunks, size);
+            // runs crossing the chunk start are sorted by the previous chunk
+            while (start > 0 && start < end && keys[start] == keys[start - 1]) {
+                start++;
+            }
+            while (start < end) {
+                var runEnd = start + 1;
+                while (runEnd < size && keys[runEnd] == keys[start]) {
+                    runEnd++;
+                }
+                if (runEnd - start > 1) {
+                    Arrays.sort(versions, start, runEnd);
+                }
+                start = runEnd;
+            }
+        });
+    }
+
+    /**
+     * @return the {@code k} highest versions in descending order; versions with the same precedence are kept in the
+     *         order of {@code versions}
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static List<Semver> topK(Iterable<Semver> versions, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative but was '" + k + "'");
+        }
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+        var size = versions instanceof Collection ? ((Collection<Semver>) versions).size() : -1;
+        if (size >= 0 && k >= size) {
+            // all versions, a stable sort keeps equal versions in their order
+            var result = new ArrayList<>((Collection<Semver>) versions);
+            result.sort(Comparator.reverseOrder());
+            return result;
+        }
+        // min heap of the k highest versions seen so far, the lowest of them on top; without a size, k may be far
+        // more than there are versions
+        var heap = new PriorityQueue<Ranked>(size >= 0 ? k : Math.min(k, MIN_HEAP_CAPACITY));
+        var position = 0L;
+        for (var version : versions) {
+            var ranked = new Ranked(version, position++);
+            if (heap.size() < k) {
+                heap.add(ranked);
+            } else if (ranked.compareTo(heap.peek()) > 0) {
+                heap.poll();
+                heap.add(ranked);
+            }
+        }
+        var result = new ArrayList<Semver>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().version);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Finds the highest version, splitting the collection across the cores of the common pool.
+     */
+    public static Optional<Semver> max(Collection<Semver> versions) {
+        return versions.parallelStream().max(Comparator.naturalOrder());
+    }
+
+    /**
+     * Finds the lowest version, splitting the collection across the cores of the common pool.
+     */
+    public static Optional<Semver> min(Collection<Semver> versions) {
+        return versions.parallelStream().min(Comparator.naturalOrder());
+    }
+
+    /**
+     * @return the version core packed into {@code 3 * 21} bits, or -1 if it does not fit
+     */
+    private static long key(Semver version) {
+        if (version.bigCore != null || version.majorVersion >= CORE_LIMIT || version.minorVersion >= CORE_LIMIT
+                || version.patchVersion >= CORE_LIMIT) {
+            return -1;
+        }
+        return (version.majorVersion << (2 * CORE_BITS)) | (version.minorVersion << CORE_BITS) | version.patchVersion;
+    }
+
+    /**
+     * Stable LSD radix sort of {@code keys}, moving {@code versions} along. Digits that are the same for all keys
+     * are skipped, for typical catalogs that leaves about half of the passes.
+     */
+    private static void radixSort(long[] keys, Semver[] versions, int chunks) {
+        var size = keys.length;
+        var or = new long[chunks];
+        var and = new long[chunks];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            and[chunk] = -1L;
+            for (var i = from(chunk, chunks, size); i < from(chunk + 1, chunks, size); i++) {
+                or[chunk] |= keys[i];
+                and[chunk] &= keys[i];
+            }
+        });
+        var anySet = 0L;
+        var allSet = -1L;
+        for (var chunk = 0; chunk < chunks; chunk++) {
+            anySet |= or[chunk];
+            allSet &= and[chunk];
+        }
+        var differing = anySet & ~allSet;
+        var sourceKeys = keys;
+        var sourceVersions = versions;
+        var targetKeys = new long[size];
+        var targetVersions = new Semver[size];
+        var counts = new int[chunks][RADIX];
+        for (var shift = 0; shift < 3 * CORE_BITS; shift += RADIX_BITS) {
+            if (((differing >>> shift) & (RADIX - 1)) == 0) {
+                continue;
+            }
+            var digitShift = shift;
+            var fromKeys = sourceKeys;
+            var fromVersions = sourceVersions;
+            var toKeys = targetKeys;
+            var toVersions = targetVersions;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                var count = counts[chunk];
+                Arrays.fill(count, 0);
+                for (var i = from(chunk, chunks, size); i < from(chunk + 1, chunks, size); i++) {
+                    count[digit(fromKeys[i], digitShift)]++;
+                }
+            });
+            // turn the counts into the first target position of every digit in every chunk
+            var position = 0;
+            for (var digit = 0; digit < RADIX; digit++) {
+                for (var chunk = 0; chunk < chunks; chunk++) {
+                    var count = counts[chunk][digit];
+                    counts[chunk][digit] = position;
+                    position += count;
+                }
+            }
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                var next = counts[chunk];
+                for (var i = from(chunk, chunks, size); i < from(chunk + 1, chunks, size); i++) {
+                    var target = next[digit(fromKeys[i], digitShift)]++;
+                    toKeys[target] = fromKeys[i];
+                    toVersions[target] = fromVersions[i];
+                }
+            });
+            targetKeys = sourceKeys;
+            targetVersions = sourceVersions;
+            sourceKeys = toKeys;
+            sourceVersions = toVersions;
+        }
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, size);
+            System.arraycopy(sourceVersions, 0, versions, 0, size);
+        }
+    }
+
+    private static int digit(long key, int shift) {
+        return (int) (key >>> shift) & (RADIX - 1);
+    }
+
+    private static int chunks(int size) {
+        var parallelism = ForkJoinPool.getCommonPoolParallelism();
+        return Math.max(1, Math.min(parallelism * 4, size / MIN_CHUNK_SIZE));
+    }
+
+    private static int from(int chunk, int chunks, int size) {
+        return (int) ((long) size * chunk / chunks);
+    }
+
+    /**
+     * Version with its position in the input, so that earlier versions win ties.
+     */
+    private static final class Ranked implements Comparable<Ranked> {
+
+        private final Semver version;
+        private final long position;
+
+        Ranked(Semver version, long position) {
+            this.version = version;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Ranked other) {
+            var result = version.compareTo(other.version);
+            return result != 0 ? result : Long.compare(other.position, position);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.github.musk.semver;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encoding of versions as byte strings whose unsigned lexicographic order is the order of
+ * {@link Semver#compareTo(Semver)}.
+ * <p>
+ * Layout of a key:
+ * <ul>
+ * <li>major, minor and patch version, each as a count of significant bytes followed by the big-endian bytes, so that
+ * longer numbers sort after shorter ones; a count above 254 is written as {@link #LONG_COUNT} followed by the count
+ * as four big-endian bytes</li>
+ * <li>for a prerelease, its identifiers followed by {@link #PRERELEASE_END}; a numeric identifier is
+ * {@link #NUMERIC} followed by the number of digits as above and the ASCII digits, an alphanumeric identifier is
+ * {@link #ALPHANUMERIC} followed by its ASCII characters and {@link #TERMINATOR}</li>
+ * <li>for a release, {@link #RELEASE}, which sorts after the first tag of any prerelease</li>
+ * <li>for build metadata, {@link #BUILD} followed by its ASCII characters and {@link #TERMINATOR}, otherwise
+ * {@link #NO_BUILD}</li>
+ * </ul>
+ * Every part is self delimiting, so keys can be concatenated and read back one by one. Versions which only differ
+ * in their build metadata compare equal with {@link Semver#compareTo(Semver)}, their keys are ordered by the build
+ * metadata.
+ */
+final class SortKeys {
+
+    static final byte TERMINATOR = 0x00;
+    static final byte PRERELEASE_END = 0x01;
+    static final byte NUMERIC = 0x02;
+    static final byte ALPHANUMERIC = 0x03;
+    static final byte RELEASE = 0x04;
+    static final byte BUILD = 0x01;
+    static final byte NO_BUILD = 0x02;
+    static final int LONG_COUNT = 0xFF;
+
+    private SortKeys() {
+    }
+
+    /**
+     * @return the length of the key of {@code version} in bytes
+     */
+    static int length(Semver version) {
+        var length = 2;
+        if (version.bigCore == null) {
+            length += numberLength(version.majorVersion) + numberLength(version.minorVersion)
+                    + numberLength(version.patchVersion);
+        } else {
+            for (var number : version.bigCore) {
+                length += numberLength(number);
+            }
+        }
+        var prerel = version.getPrerel();
+        if (prerel != null) {
+            var start = 0;
+            while (start <= prerel.length()) {
+                var end = identifierEnd(prerel, start);
+                length += isNumeric(prerel, start, end) ? 1 + numberLength(end - start) + end - start
+                        : 2 + end - start;
+                start = end + 1;
+            }
+        }
+        var build = version.getBuild();
+        return build != null ? length + build.length() + 1 : length;
+    }
+
+    static void write(Semver version, ByteBuffer buffer) {
+        if (version.bigCore == null) {
+            writeNumber(version.majorVersion, buffer);
+            writeNumber(version.minorVersion, buffer);
+            writeNumber(version.patchVersion, buffer);
+        } else {
+            for (var number : version.bigCore) {
+                writeNumber(number, buffer);
+            }
+        }
+        var prerel = version.getPrerel();
+        if (prerel != null) {
+            var start = 0;
+            while (start <= prerel.length()) {
+                var end = identifierEnd(prerel, start);
+                if (isNumeric(prerel, start, end)) {
+                    buffer.put(NUMERIC);
+                    writeNumber(end - start, buffer);
+                    writeAscii(prerel, start, end, buffer);
+                } else {
+                    buffer.put(ALPHANUMERIC);
+                    writeAscii(prerel, start, end, buffer);
+                    buffer.put(TERMINATOR);
+                }
+                start = end + 1;
+            }
+            buffer.put(PRERELEASE_END);
+        } else {
+            buffer.put(RELEASE);
+        }
+        var build = version.getBuild();
+        if (build != null) {
+            buffer.put(BUILD);
+            writeAscii(build, 0, build.length(), buffer);
+            buffer.put(TERMINATOR);
+        } else {
+            buffer.put(NO_BUILD);
+        }
+    }
+
+    /**
+     * Reads one key starting at the position of {@code buffer} and advances the position to its end.
+     *
+     * @throws IllegalArgumentException if the bytes are not a valid key
+     */
+    static Semver read(ByteBuffer buffer) {
+        try {
+            var core = buffer.position();
+            var major = readNumber(buffer);
+            var minor = readNumber(buffer);
+            var patch = readNumber(buffer);
+            BigInteger[] bigCore = null;
+            if ((major | minor | patch) < 0) {
+                buffer.position(core);
+                bigCore = new BigInteger[]{readBigNumber(buffer), readBigNumber(buffer), readBigNumber(buffer)};
+            }
+            String prerel = null;
+            var tag = buffer.get();
+            if (tag != RELEASE) {
+                var text = new StringBuilder();
+                while (tag != PRERELEASE_END) {
+                    if (text.length() > 0) {
+                        text.append('.');
+                    }
+                    if (tag == NUMERIC) {
+                        var digits = readNumber(buffer);
+                        if (digits <= 0 || digits > Integer.MAX_VALUE) {
+                            throw invalidKey();
+                        }
+                        for (var i = 0; i < digits; i++) {
+                            var digit = buffer.get();
+                            if (!SemverParser.isDigit((char) digit) || (i == 0 && digit == '0' && digits > 1)) {
+                                throw invalidKey();
+                            }
+                            text.append((char) digit);
+                        }
+                    } else if (tag == ALPHANUMERIC) {
+                        readAscii(buffer, text, false);
+                    } else {
+                        throw invalidKey();
+                    }
+                    tag = buffer.get();
+                }
+                prerel = text.toString();
+            }
+            String build = null;
+            tag = buffer.get();
+            if (tag == BUILD) {
+                build = readAscii(buffer, new StringBuilder(), true).toString();
+            } else if (tag != NO_BUILD) {
+                throw invalidKey();
+            }
+            return bigCore != null ? Semver.of(bigCore[0], bigCore[1], bigCore[2], prerel, build)
+                    : new Semver(major, minor, patch, prerel, build);
+        } catch (BufferUnderflowException e) {
+            throw invalidKey();
+        }
+    }
+
+    private static int identifierEnd(String prerel, int start) {
+        var end = prerel.indexOf('.', start);
+        return end < 0 ? prerel.length() : end;
+    }
+
+    private static boolean isNumeric(String prerel, int start, int end) {
+        for (var i = start; i < end; i++) {
+            if (!SemverParser.isDigit(prerel.charAt(i))) {
+                return false;
+            }
+        }
+        return end > start;
+    }
+
+    private static int numberLength(long value) {
+        return 1 + (8 - Long.numberOfLeadingZeros(value) / 8);
+    }
+
+    private static int numberLength(BigInteger value) {
+        var bytes = byteCount(value);
+        return (bytes < LONG_COUNT ? 1 : 5) + bytes;
+    }
+
+    private static int byteCount(BigInteger value) {
+        return (value.bitLength() + 7) / 8;
+    }
+
+    private static void writeNumber(long value, ByteBuffer buffer) {
+        var bytes = numberLength(value) - 1;
+        buffer.put((byte) bytes);
+        for (var i = bytes - 1; i >= 0; i--) {
+            buffer.put((byte) (value >>> (8 * i)));
+        }
+    }
+
+    private static void writeNumber(BigInteger value, ByteBuffer buffer) {
+        var bytes = byteCount(value);
+        if (bytes < LONG_COUNT) {
+            buffer.put((byte) bytes);
+        } else {
+            buffer.put((byte) LONG_COUNT);
+            buffer.putInt(bytes);
+        }
+        // without the sign byte of positive numbers whose highest bit is set
+        var magnitude = value.toByteArray();
+        buffer.put(magnitude, magnitude.length - bytes, bytes);
+    }
+
+    /**
+     * @return the number or {@link SemverParser#OVERSIZED} if it does not fit into a {@code long}, then the bytes
+     *         are skipped
+     */
+    private static long readNumber(ByteBuffer buffer) {
+        var bytes = readCount(buffer);
+        if (bytes > 8) {
+            if (bytes > buffer.remaining() || buffer.get(buffer.position()) == 0) {
+                throw invalidKey();
+            }
+            buffer.position(buffer.position() + bytes);
+            return SemverParser.OVERSIZED;
+        }
+        var value = 0L;
+        for (var i = 0; i < bytes; i++) {
+            value = (value << 8) | (buffer.get() & 0xFF);
+        }
+        // the shortest encoding is the only valid one, otherwise the order of keys would not be unique
+        if (value >= 0 && numberLength(value) != bytes + 1) {
+            throw invalidKey();
+        }
+        return value < 0 ? SemverParser.OVERSIZED : value;
+    }
+
+    private static BigInteger readBigNumber(ByteBuffer buffer) {
+        var magnitude = new byte[readCount(buffer)];
+        buffer.get(magnitude);
+        return new BigInteger(1, magnitude);
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+        var count = buffer.get() & 0xFF;
+        if (count == LONG_COUNT) {
+            count = buffer.getInt();
+            if (count < LONG_COUNT) {
+                throw invalidKey();
+            }
+        }
+        return count;
+    }
+
+    private static void writeAscii(String value, int start, int end, ByteBuffer buffer) {
+        for (var i = start; i < end; i++) {
+            buffer.put((byte) value.charAt(i));
+        }
+    }
+
+    /**
+     * Reads an alphanumeric prerelease identifier ({@code build == false}) or build metadata up to the terminator.
+     */
+    private static StringBuilder readAscii(ByteBuffer buffer, StringBuilder text, boolean build) {
+        var start = text.length();
+        var numeric = true;
+        var previous = '.';
+        var b = buffer.get();
+        while (b != TERMINATOR) {
+            var c = (char) b;
+            if (c == '.' ? !build || previous == '.' : !SemverParser.isDigit(c) && !SemverParser.isNonDigit(c)) {
+                throw invalidKey();
+            }
+            numeric &= SemverParser.isDigit(c);
+            text.append(c);
+            previous = c;
+            b = buffer.get();
+        }
+        // numeric prerelease identifiers have their own tag
+        if (text.length() == start || previous == '.' || (numeric && !build)) {
+            throw invalidKey();
+        }
+        return text;
+    }
+
+    private static IllegalArgumentException invalidKey() {
+        return new IllegalArgumentException("Invalid sort key");
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CountingSemverMetricsTest {
+
+    @Test
+    @DisplayName("Calls are counted")
+    void callsAreCounted() {
+        var metrics = new CountingSemverMetrics();
+        metrics.parsed(true);
+        metrics.parsed(false);
+        metrics.parsed(true);
+        metrics.validated(false);
+        metrics.compared();
+        metrics.compared();
+        metrics.bumped(Bump.MINOR);
+        metrics.bumped(Bump.MINOR);
+        metrics.bumped(Bump.PATCH);
+
+        assertEquals(3, metrics.parseCount());
+        assertEquals(1, metrics.parseFailureCount());
+        assertEquals(1, metrics.validateCount());
+        assertEquals(1, metrics.validateFailureCount());
+        assertEquals(2, metrics.compareCount());
+        assertEquals(2, metrics.bumpCount(Bump.MINOR));
+        assertEquals(1, metrics.bumpCount(Bump.PATCH));
+        assertEquals(0, metrics.bumpCount(Bump.MAJOR));
+
+        metrics.reset();
+        assertEquals(0, metrics.parseCount());
+        assertEquals(0, metrics.compareCount());
+        assertEquals(0, metrics.bumpCount(Bump.MINOR));
+    }
+
+    @Test
+    @DisplayName("Concurrent calls are counted")
+    void concurrentCallsAreCounted() throws InterruptedException {
+        var metrics = new CountingSemverMetrics();
+        var executor = Executors.newFixedThreadPool(8);
+        for (var t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (var i = 0; i < 10_000; i++) {
+                    metrics.parsed(i % 10 != 0);
+                    metrics.compared();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        assertEquals(80_000, metrics.parseCount());
+        assertEquals(8_000, metrics.parseFailureCount());
+        assertEquals(80_000, metrics.compareCount());
+    }
+
+    @Test
+    @DisplayName("Metrics are off without a provider")
+    void metricsAreOffWithoutAProvider() {
+        assertSame(SemverMetrics.NOOP, SemverMetrics.installed());
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InstrumentationTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Parse failures are recorded")
+    void parseFailuresAreRecorded() throws IOException {
+        var events = record(Duration.ofDays(1), () -> {
+            Semver.tryParse("1.2.3");
+            Semver.tryParse("1.2");
+            Semver.validate("latest");
+            Semver.tryParse("1.0.0-" + "x".repeat(300) + "_");
+        });
+
+        var failures = inputs(events, "com.github.musk.semver.ParseFailure");
+        assertEquals(List.of("1.2", "1.0.0-" + "x".repeat(250) + "..."), failures);
+        assertTrue(inputs(events, "com.github.musk.semver.Parse").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Parses slower than the threshold are recorded")
+    void parsesSlowerThanTheThresholdAreRecorded() throws IOException {
+        var events = record(Duration.ZERO, () -> {
+            Semver.parse("1.2.3-rc.1");
+            Semver.tryParse("1.2");
+        });
+
+        assertEquals(List.of("1.2.3-rc.1", "1.2"), inputs(events, "com.github.musk.semver.Parse"));
+        var valid = events.stream().filter(e -> e.getEventType().getName().equals("com.github.musk.semver.Parse"))
+                .map(e -> e.getBoolean("valid")).collect(Collectors.toList());
+        assertEquals(List.of(true, false), valid);
+    }
+
+    @Test
+    @DisplayName("Nothing is recorded without a recording")
+    void nothingIsRecordedWithoutARecording() {
+        assertFalse(new Instrumentation.ParseEvent().isEnabled());
+        assertFalse(new Instrumentation.ParseFailureEvent().isEnabled());
+        assertFalse(Semver.tryParse("1.2").isPresent());
+    }
+
+    private List<RecordedEvent> record(Duration threshold, Runnable action) throws IOException {
+        var file = directory.resolve("semver.jfr");
+        try (var recording = new Recording()) {
+            recording.enable("com.github.musk.semver.Parse").withThreshold(threshold);
+            recording.enable("com.github.musk.semver.ParseFailure");
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        try {
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<String> inputs(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).map(e -> e.getString("input"))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SemverArrayTest {
+
+    private static final String[] VERSIONS = {"1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta", "1.0.0-beta",
+            "1.0.0-beta.2", "1.0.0-beta.11", "1.0.0-rc.1", "1.0.0", "1.0.0+hash", "0.2.1", "1.2.3-rc1.0+build-1234",
+            "1.0.0--", "1.0.0-999", "1.0.0-rc.99999999999999999999", "1.0.0-rc.100000000000000000000", "2.0.0",
+            "10.20.30-x-.7.--z.92-", "1.0.0-x.7.z.92+-alpha-2-", "v3.1.4", "0.0.0"};
+
+    @Test
+    @DisplayName("Add and get round trip")
+    void addAndGetRoundTrip() {
+        var array = new SemverArray(1);
+        for (var i = 0; i < VERSIONS.length; i++) {
+            var expected = Semver.parse(VERSIONS[i]);
+            assertEquals(2 * i, array.add(VERSIONS[i]));
+            assertEquals(2 * i + 1, array.add(expected));
+            for (var index : new int[]{2 * i, 2 * i + 1}) {
+                assertEquals(expected, array.get(index));
+                assertEquals(expected.getMajorLong(), array.getMajorLong(index));
+                assertEquals(expected.getMinorLong(), array.getMinorLong(index));
+                assertEquals(expected.getPatchLong(), array.getPatchLong(index));
+                assertEquals(expected.getPrerel(), array.getPrerel(index));
+                assertEquals(expected.getBuild(), array.getBuild(index));
+            }
+        }
+        assertEquals(2 * VERSIONS.length, array.size());
+    }
+
+    @ParameterizedTest
+    @DisplayName("Comparison works as Semver.compareTo")
+    @CsvSource({"1.0.0-alpha, 1.0.0-alpha.1", "1.0.0-beta.2, 1.0.0-beta.11", "1.0.0-alpha, 1.0.0-666",
+                "1.0.0-999, 1.0.0--", "1.0.0+hash, 1.0.0", "1.0.0+x, 1.0.0+y", "1.0.0-rc.1, 1.0.0",
+                "1.0.0-beta.2.ab, 1.0.0-beta.2.ab.0", "1.0.0-12.beta2+x, 1.0.0-11.beta2+y", "0.3.1, 0.2.5",
+                "1.0.0-rc.99999999999999999999, 1.0.0-rc.100000000000000000000", "1.2.3, 1.2.3",
+                "9223372036854775807.0.0, 9223372036854775808.0.0", "1.99999999999999999999.0, 1.9.0",
+                "1.99999999999999999999.0, 1.100000000000000000000.0",
+                "0.0.99999999999999999999, 0.0.99999999999999999999",
+                "99999999999999999999.0.0, 99999999999999999999.0.0-rc.1"})
+    void comparisonWorksAsSemverCompareTo(String v1, String v2) {
+        var left = Semver.parse(v1);
+        var right = Semver.parse(v2);
+        var array = new SemverArray();
+        array.add(v1);
+        array.add(v2);
+        assertEquals(Integer.signum(left.compareTo(right)), Integer.signum(array.compare(0, 1)), v1 + " ? " + v2);
+        assertEquals(Integer.signum(right.compareTo(left)), Integer.signum(array.compare(1, 0)), v2 + " ? " + v1);
+        assertEquals(Integer.signum(left.compareTo(right)), Integer.signum(array.compare(0, right)), v1 + " ? " + v2);
+    }
+
+    @Test
+    @DisplayName("Sort orders by precedence")
+    void sortOrdersByPrecedence() {
+        var random = new Random(42);
+        var array = new SemverArray();
+        var expected = new ArrayList<Semver>();
+        for (var i = 0; i < 5000; i++) {
+            var version = VERSIONS[random.nextInt(VERSIONS.length)];
+            array.add(version);
+            expected.add(Semver.parse(version));
+        }
+        Collections.sort(expected);
+        array.sort();
+
+        var actual = new ArrayList<Semver>();
+        array.forEach(actual::add);
+        for (var i = 0; i < expected.size(); i++) {
+            assertEquals(0, expected.get(i).compareTo(actual.get(i)), expected.get(i) + " at " + i);
+        }
+        for (var i = 1; i < array.size(); i++) {
+            assertTrue(array.compare(i - 1, i) <= 0, "Sorted at " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Numbers beyond a long are stored in the arena")
+    void numbersBeyondALongAreStoredInTheArena() {
+        var array = new SemverArray();
+        var versions = List.of("9223372036854775808.0.0", "1.99999999999999999999.2-rc.1+b", "9223372036854775807.1.2",
+                "1.99999999999999999999.2", "1.99999999999999999999.10", "1.0.20230117093015");
+        versions.forEach(array::add);
+        for (var i = 0; i < versions.size(); i++) {
+            assertEquals(Semver.parse(versions.get(i)), array.get(i));
+            assertEquals(versions.get(i), array.get(i).text());
+        }
+        assertEquals(Long.MAX_VALUE, array.getMajorLong(2));
+        assertThrows(ArithmeticException.class, () -> array.getMajor(2));
+        assertEquals(20230117093015L, array.getPatchLong(5));
+        assertEquals(2, array.getPatch(1));
+        assertThrows(ArithmeticException.class, () -> array.getMajorLong(0));
+        assertThrows(ArithmeticException.class, () -> array.getMinorLong(1));
+
+        array.sort();
+        assertEquals("[1.0.20230117093015, 1.99999999999999999999.2-rc.1+b, 1.99999999999999999999.2, "
+                + "1.99999999999999999999.10, 9223372036854775807.1.2, 9223372036854775808.0.0]", list(array));
+        assertEquals(3, array.binarySearch(Semver.parse("1.99999999999999999999.10")));
+        assertEquals(-6, array.binarySearch(Semver.parse("9223372036854775807.99999999999999999999.0")));
+    }
+
+    @Test
+    @DisplayName("Binary search finds versions in sorted array")
+    void binarySearchFindsVersionsInSortedArray() {
+        var array = new SemverArray();
+        List.of("1.0.0", "1.0.0-rc.1", "0.9.0", "2.0.0-alpha", "1.1.0").forEach(array::add);
+        array.sort();
+        assertEquals(2, array.binarySearch(Semver.parse("1.0.0")));
+        assertEquals(0, array.binarySearch(Semver.parse("0.9.0")));
+        assertEquals(-4, array.binarySearch(Semver.parse("1.0.1")));
+        assertEquals(-6, array.binarySearch(Semver.parse("2.0.0")));
+    }
+
+    @Test
+    @DisplayName("Invalid input and index are rejected")
+    void invalidInputAndIndexAreRejected() {
+        var array = new SemverArray();
+        array.add("1.2.3");
+        assertThrows(IllegalArgumentException.class, () -> array.add("1.2"));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.getMajor(-1));
+        assertEquals(1, array.size());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 10, 0, 10",
+            "100, 10, 100, 200",
+            "100, 500, 100, 600",
+            "1073741824, 1, 1073741824, 2147483639",
+            "2147483000, 600, 2147483639, 2147483639",
+            "1500000000, 600000000, 1600000000, 2147483639"})
+    @DisplayName("The arena doubles up to the array limit")
+    void theArenaDoublesUpToTheArrayLimit(int size, int length, int capacity, int expected) {
+        assertEquals(expected, SemverArray.arenaCapacity(size, length, capacity));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2147483639, 1", "2147483000, 640", "1, 2147483647"})
+    @DisplayName("A full arena throws")
+    void aFullArenaThrows(int size, int length) {
+        var ex = assertThrows(IllegalStateException.class, () -> SemverArray.arenaCapacity(size, length, size));
+        assertTrue(ex.getMessage().startsWith("Arena of " + size + " bytes cannot grow by " + length + " bytes"));
+    }
+
+    private static String list(SemverArray array) {
+        var versions = new ArrayList<Semver>();
+        array.forEach(versions::add);
+        return versions.toString();
+    }
+}
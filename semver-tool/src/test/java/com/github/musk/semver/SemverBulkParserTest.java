@@ -0,0 +1,96 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemverBulkParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @DisplayName("Parse all lines and report malformed lines with their number")
+    @ValueSource(longs = {0, 1, 7, 64})
+    void parseAllLinesAndReportMalformedLinesWithTheirNumber(long chunkSize) throws IOException {
+        var lines = new ArrayList<String>();
+        var expected = new ArrayList<Semver>();
+        var malformed = new ConcurrentHashMap<Long, String>();
+        for (var i = 0; i < 500; i++) {
+            if (i % 37 == 5) {
+                lines.add("latest-" + i);
+                malformed.put((long) i + 1, "latest-" + i);
+            } else if (i % 53 == 7) {
+                lines.add("");
+            } else {
+                var version = "1." + i + "." + (i % 7) + (i % 3 == 0 ? "-rc." + i : "") + (i % 5 == 0 ? "+b" + i : "");
+                lines.add(i % 11 == 0 ? version + "\r" : version);
+                expected.add(Semver.parse(version));
+            }
+        }
+        var file = tempDir.resolve("versions.txt");
+        Files.write(file, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+
+        var sink = new CollectingSink();
+        var parsed = new SemverBulkParser(ForkJoinPool.commonPool(), 16, chunkSize).parse(file, sink);
+
+        assertEquals(expected.size(), parsed);
+        var actual = new ArrayList<Semver>();
+        sink.batches.forEach(batch -> {
+            assertTrue(batch.size() <= 16, "Batch size " + batch.size());
+            actual.addAll(batch);
+        });
+        actual.sort(null);
+        expected.sort(null);
+        assertEquals(expected, actual);
+        assertEquals(malformed, sink.malformed);
+    }
+
+    @Test
+    @DisplayName("Parse empty file")
+    void parseEmptyFile() throws IOException {
+        var file = Files.createFile(tempDir.resolve("empty.txt"));
+        var sink = new CollectingSink();
+        assertEquals(0, new SemverBulkParser().parse(file, sink));
+        assertTrue(sink.batches.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Missing file throws IOException")
+    void missingFileThrowsIoException() {
+        assertThrows(NoSuchFileException.class,
+                () -> new SemverBulkParser().parse(tempDir.resolve("missing.txt"), new CollectingSink()));
+    }
+
+    private static class CollectingSink implements SemverBulkParser.Sink {
+        private final ConcurrentLinkedQueue<List<Semver>> batches = new ConcurrentLinkedQueue<>();
+        private final Map<Long, String> malformed = new ConcurrentHashMap<>();
+
+        @Override
+        public void accept(List<Semver> batch) {
+            batches.add(batch);
+        }
+
+        @Override
+        public void malformed(long lineNumber, String line) {
+            malformed.put(lineNumber, line);
+        }
+    }
+}
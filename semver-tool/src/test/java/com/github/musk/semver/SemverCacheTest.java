@@ -0,0 +1,127 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.musk.semver.SemverCache.EvictionPolicy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SemverCacheTest {
+
+    @Test
+    @DisplayName("Parse returns shared instances and counts hits and misses")
+    void parseReturnsSharedInstancesAndCountsHitsAndMisses() {
+        var cache = new SemverCache(100);
+        var first = cache.parse("1.2.3-rc.1");
+        var second = cache.parse("1.2.3-rc.1");
+        var other = cache.parse("1.2.4");
+
+        assertSame(first, second);
+        assertEquals(Semver.parse("1.2.3-rc.1"), first);
+        assertEquals(Semver.parse("1.2.4"), other);
+        assertEquals(1, cache.hitCount());
+        assertEquals(2, cache.missCount());
+        assertEquals(0, cache.evictionCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Invalid versions throw and are not cached")
+    void invalidVersionsThrowAndAreNotCached() {
+        var cache = new SemverCache(10);
+        var ex = assertThrows(IllegalArgumentException.class, () -> cache.parse("latest"));
+        assertEquals("Invalid semantic version 'latest'", ex.getMessage());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("LRU evicts the least recently used version")
+    void lruEvictsTheLeastRecentlyUsedVersion() {
+        var cache = new SemverCache(2, EvictionPolicy.LRU);
+        var one = cache.parse("1.0.0");
+        cache.parse("2.0.0");
+        cache.parse("1.0.0");
+        cache.parse("3.0.0");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertSame(one, cache.parse("1.0.0"));
+        cache.parse("2.0.0");
+        assertEquals(4, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("LRU keeps the recency of more hits than fit into the read buffer")
+    void lruKeepsTheRecencyOfManyHits() {
+        var cache = new SemverCache(2, EvictionPolicy.LRU);
+        var one = cache.parse("1.0.0");
+        cache.parse("2.0.0");
+        for (var i = 0; i < 100; i++) {
+            cache.parse("1.0.0");
+        }
+        cache.parse("3.0.0");
+
+        assertEquals(100, cache.hitCount());
+        assertEquals(1, cache.evictionCount());
+        assertSame(one, cache.parse("1.0.0"));
+        cache.parse("2.0.0");
+        assertEquals(4, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("TinyLFU keeps frequently used versions")
+    void tinyLfuKeepsFrequentlyUsedVersions() {
+        var cache = new SemverCache(2, EvictionPolicy.TINY_LFU);
+        var hot = cache.parse("1.0.0");
+        var warm = cache.parse("2.0.0");
+        for (var i = 0; i < 5; i++) {
+            cache.parse("1.0.0");
+            cache.parse("2.0.0");
+        }
+        for (var i = 0; i < 20; i++) {
+            cache.parse("3.0." + i);
+        }
+
+        assertEquals(2, cache.size());
+        assertEquals(0, cache.evictionCount());
+        assertSame(hot, cache.parse("1.0.0"));
+        assertSame(warm, cache.parse("2.0.0"));
+        assertNotSame(cache.parse("3.0.0"), cache.parse("3.0.0"));
+    }
+
+    @Test
+    @DisplayName("Size stays bounded under concurrent use")
+    void sizeStaysBoundedUnderConcurrentUse() throws InterruptedException {
+        var cache = new SemverCache(1000);
+        var executor = Executors.newFixedThreadPool(8);
+        for (var t = 0; t < 8; t++) {
+            var offset = t;
+            executor.execute(() -> {
+                for (var i = 0; i < 10_000; i++) {
+                    var version = "1." + (i % 50) + "." + ((i * 7 + offset) % 100);
+                    assertEquals(Semver.parse(version), cache.parse(version));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        assertTrue(cache.size() <= 1000, "Size " + cache.size());
+        assertEquals(80_000, cache.hitCount() + cache.missCount());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Illegal configuration is rejected")
+    void illegalConfigurationIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SemverCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new SemverCache(10, null));
+    }
+}
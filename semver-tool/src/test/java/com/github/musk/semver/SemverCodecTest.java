@@ -0,0 +1,141 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemverCodecTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0.0.0, 4",
+            "1.2.3, 4",
+            "127.128.16384, 7",
+            "2147483647.0.0, 8",
+            "2147483647.2147483647.2147483647-a+b, 20",
+            "4294967296.0.0, 8",
+            "9223372036854775807.0.0, 12",
+            "9223372036854775808.0.0, 15",
+            "1.99999999999999999999999999999.0-rc.1+b, 26",
+            "1.2.3-rc.1, 9",
+            "1.2.3+build.5, 12",
+            "1.0.0-x-.7.--z.92-+-alpha-2-, 27"})
+    @DisplayName("Write and read a version")
+    void writeAndReadAVersion(String version, int length) throws IOException {
+        var semver = Semver.parse(version);
+        var bytes = write(semver);
+        assertEquals(length, bytes.length);
+        assertEquals(semver, SemverCodec.read(new DataInputStream(new ByteArrayInputStream(bytes))));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "00 01 02 03, 1.2.3",
+            "01 01 02 03 01 30, 1.2.3-0",
+            "05 00 00 00 04 72 63 2e 31 01 62, 0.0.0-rc.1+b",
+            "10 01 01 01 02 01 03, 1.2.3",
+            "14 01 01 09 05 6b c7 5e 2d 63 0f ff ff 01 03 01 62, 1.99999999999999999999.3+b"})
+    @DisplayName("Decoded versions are the parsed versions")
+    void decodedVersionsAreTheParsedVersions(String hex, String version) throws IOException {
+        var semver = SemverCodec.read(new DataInputStream(new ByteArrayInputStream(bytes(hex))));
+        var parsed = Semver.parse(version);
+
+        assertEquals(parsed, semver);
+        assertEquals(parsed.hashCode(), semver.hashCode());
+        assertEquals(0, semver.compareTo(parsed));
+        assertEquals(version, semver.text());
+        assertArrayEquals(parsed.toSortKey(), semver.toSortKey());
+        assertEquals(parsed, Semver.fromSortKey(semver.toSortKey()));
+    }
+
+    @Test
+    @DisplayName("Write and read arrays")
+    void writeAndReadArrays() throws IOException {
+        var versions = new Semver[3000];
+        for (var i = 0; i < versions.length; i++) {
+            versions[i] = Semver.parse(i + ".1.0" + (i % 3 == 0 ? "-rc." + i : ""));
+        }
+        var bytes = new ByteArrayOutputStream();
+        SemverCodec.writeAll(versions, new DataOutputStream(bytes));
+        SemverCodec.writeAll(new Semver[0], new DataOutputStream(bytes));
+        var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertArrayEquals(versions, SemverCodec.readAll(in));
+        assertArrayEquals(new Semver[0], SemverCodec.readAll(in));
+        assertEquals(-1, in.read());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"10 00 00 00", "03 01 02 03 01 61", "01 01 02 03 00", "01 01 02 03 02 30 31",
+            "04 01 02 03 02 61 2e", "04 01 02 03 01 2b", "00 80 80 80 80 80 80 80 80 80 01 00 00",
+            "10 01 80 01 00 01 00", "10 00 01 00 01 00", "02 01 02 03", "08 01 02 03", "0a 01 02 03",
+            "03 01 02 03 01 30", "01 01 02 03 ff ff ff ff 07", "04 01 02 03 81 80 40", "10 ff ff ff ff 07",
+            "10 01 01 81 80 40"})
+    @DisplayName("Invalid data throws")
+    void invalidDataThrows(String hex) {
+        var ex = assertThrows(IOException.class, () -> SemverCodec.read(new DataInputStream(
+                new ByteArrayInputStream(bytes(hex)))));
+        assertEquals("Invalid encoded semantic version", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Parts longer than the limit are not written")
+    void partsLongerThanTheLimitAreNotWritten() throws IOException {
+        var limit = 1 << 20;
+        assertEquals(limit + 7, write(Semver.parse("1.2.3-" + "a".repeat(limit))).length);
+        var tooLong = Semver.parse("1.2.3+" + "a".repeat(limit + 1));
+        var ex = assertThrows(IllegalArgumentException.class, () -> write(tooLong));
+        assertEquals("Build metadata of 1048577 bytes is longer than 1048576 bytes", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Truncated data throws")
+    void truncatedDataThrows() {
+        assertThrows(EOFException.class, () -> SemverCodec.read(new DataInputStream(
+                new ByteArrayInputStream(bytes("01 01 02 03 05 61")))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1.2.3", "1.2.3-rc.1+build.5", "0.2.1-rc1.0+build-1234"})
+    @DisplayName("Java serialization uses the codec")
+    void javaSerializationUsesTheCodec(String version) throws IOException, ClassNotFoundException {
+        var semver = Semver.parse(version);
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(semver);
+        }
+        assertTrue(bytes.size() < 100, "size " + bytes.size());
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(semver, in.readObject());
+        }
+    }
+
+    private static byte[] write(Semver version) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        SemverCodec.write(version, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static byte[] bytes(String hex) {
+        var bytes = new byte[(hex.length() + 1) / 3];
+        for (var i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(3 * i, 3 * i + 2), 16);
+        }
+        return bytes;
+    }
+}
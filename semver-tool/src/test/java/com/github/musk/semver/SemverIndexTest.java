@@ -0,0 +1,186 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SemverIndexTest {
+
+    private static final SemverIndex INDEX = index("2.0.0", "1.4.7", "1.0.0", "1.4.7+build.1", "2.1.0-rc.1",
+            "1.5.0-beta", "0.9.0", "1.4.7", "3.0.0-alpha", "1.4.10", "2.0.1", "1.5.0");
+
+    @Test
+    @DisplayName("Versions are sorted and duplicates are dropped")
+    void versionsAreSortedAndDuplicatesAreDropped() {
+        assertEquals("[0.9.0, 1.0.0, 1.4.7+build.1, 1.4.7, 1.4.10, 1.5.0-beta, 1.5.0, 2.0.0, 2.0.1, 2.1.0-rc.1, "
+                + "3.0.0-alpha]", INDEX.toString());
+        assertEquals(11, INDEX.size());
+        assertEquals(Semver.parse("1.4.10"), INDEX.get(4));
+        assertEquals(Semver.parse("0.9.0"), INDEX.first());
+        assertEquals(Semver.parse("3.0.0-alpha"), INDEX.last());
+        assertTrue(INDEX.contains(Semver.parse("1.4.7+build.1")));
+        assertFalse(INDEX.contains(Semver.parse("1.4.7+build.2")));
+        assertThrows(IndexOutOfBoundsException.class, () -> INDEX.get(11));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1.4.7, 1.4.7, 1.4.7+build.1, 1.4.7, 1.4.10, 1.4.7, 1.4.7+build.1",
+            "1.4.8, 1.4.7, 1.4.7, 1.4.10, 1.4.10, 1.4.7, 1.4.7",
+            "1.5.0-beta, 1.5.0-beta, 1.4.10, 1.5.0-beta, 1.5.0, 1.4.10, 1.4.10",
+            "1.5.0-gamma, 1.5.0-beta, 1.5.0-beta, 1.5.0, 1.5.0, 1.4.10, 1.4.10",
+            "0.1.0, , , 0.9.0, 0.9.0, , ",
+            "0.9.0, 0.9.0, , 0.9.0, 1.0.0, 0.9.0, ",
+            "4.0.0, 3.0.0-alpha, 3.0.0-alpha, , , 2.0.1, 2.0.1",
+            "3.0.0-alpha, 3.0.0-alpha, 2.1.0-rc.1, 3.0.0-alpha, , 2.0.1, 2.0.1",
+    })
+    @DisplayName("Floor, lower, ceiling and higher")
+    void floorLowerCeilingAndHigher(String version, String floor, String lower, String ceiling, String higher,
+            String floorRelease, String lowerRelease) {
+        var semver = Semver.parse(version);
+        assertEquals(floor, text(INDEX.floor(semver)));
+        assertEquals(lower, text(INDEX.lower(semver)));
+        assertEquals(ceiling, text(INDEX.ceiling(semver)));
+        assertEquals(higher, text(INDEX.higher(semver)));
+        assertEquals(floorRelease, text(INDEX.floorRelease(semver)));
+        assertEquals(lowerRelease, text(INDEX.lowerRelease(semver)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0.9.0, 0.9.0",
+            "1, 1.5.0, 1.5.0",
+            "2, 2.1.0-rc.1, 2.0.1",
+            "3, 3.0.0-alpha, ",
+            "4, , ",
+            "-1, , ",
+            "9223372036854775807, , ",
+    })
+    @DisplayName("Latest in major")
+    void latestInMajor(long major, String latest, String latestRelease) {
+        assertEquals(latest, text(INDEX.latestInMajor(major, true)));
+        assertEquals(latestRelease, text(INDEX.latestInMajor(major, false)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 4, 1.4.10, 1.4.10",
+            "1, 5, 1.5.0, 1.5.0",
+            "1, 3, , ",
+            "2, 1, 2.1.0-rc.1, ",
+            "2, 0, 2.0.1, 2.0.1",
+            "2147483647, 2147483647, , ",
+            "1, -1, , ",
+    })
+    @DisplayName("Latest in minor")
+    void latestInMinor(long major, long minor, String latest, String latestRelease) {
+        assertEquals(latest, text(INDEX.latestInMinor(major, minor, true)));
+        assertEquals(latestRelease, text(INDEX.latestInMinor(major, minor, false)));
+    }
+
+    @Test
+    @DisplayName("Releases skip prereleases")
+    void releasesSkipPrereleases() {
+        var releases = new ArrayList<String>();
+        INDEX.releases().forEach(version -> releases.add(version.toString()));
+        assertEquals(List.of("0.9.0", "1.0.0", "1.4.7+build.1", "1.4.7", "1.4.10", "1.5.0", "2.0.0", "2.0.1"),
+                releases);
+        assertFalse(index("1.0.0-rc.1").releases().iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("Views are limited to their range")
+    void viewsAreLimitedToTheirRange() {
+        var view = INDEX.subIndex(Semver.parse("1.4.7"), false, Semver.parse("2.0.1"), false);
+        assertEquals("[1.4.10, 1.5.0-beta, 1.5.0, 2.0.0]", view.toString());
+        assertEquals(index("2.0.0", "1.5.0", "1.5.0-beta", "1.4.10"), view);
+        assertEquals(view.hashCode(), index("2.0.0", "1.5.0", "1.5.0-beta", "1.4.10").hashCode());
+        assertNull(view.floor(Semver.parse("1.4.7")));
+        assertNull(view.higher(Semver.parse("2.0.0")));
+        assertNull(view.lowerRelease(Semver.parse("1.4.10")));
+        assertEquals("2.0.0", text(view.latestInMajor(2, true)));
+        assertNull(view.latestInMajor(0, true));
+        assertEquals("2.0.0", text(view.latestInMinor(2, 0, false)));
+        assertEquals("[1.5.0]", view.tailIndex(Semver.parse("1.5.0-beta"), false).headIndex(Semver.parse("2.0.0"),
+                false).toString());
+        assertEquals("[0.9.0, 1.0.0]", INDEX.headIndex(Semver.parse("1.0.0"), true).toString());
+        assertTrue(INDEX.subIndex(Semver.parse("1.1.0"), true, Semver.parse("1.2.0"), true).isEmpty());
+        assertTrue(INDEX.tailIndex(Semver.parse("3.0.0-alpha"), false).isEmpty());
+        assertTrue(view.headIndex(Semver.parse("1.0.0"), true).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Numbers beyond a long are ordered after all others")
+    void numbersBeyondALongAreOrderedAfterAllOthers() {
+        var index = index("9223372036854775807.99999999999999999999.0", "9223372036854775807.3.1", "2.0.0",
+                "99999999999999999999.0.0", "9223372036854775807.9223372036854775807.5-rc.1");
+        assertEquals("[2.0.0, 9223372036854775807.3.1, 9223372036854775807.9223372036854775807.5-rc.1, "
+                + "9223372036854775807.99999999999999999999.0, 99999999999999999999.0.0]", index.toString());
+        assertEquals("9223372036854775807.99999999999999999999.0", text(index.latestInMajor(Long.MAX_VALUE, false)));
+        assertEquals("9223372036854775807.9223372036854775807.5-rc.1",
+                text(index.latestInMinor(Long.MAX_VALUE, Long.MAX_VALUE, true)));
+        assertEquals("9223372036854775807.3.1", text(index.latestInMinor(Long.MAX_VALUE, 3, false)));
+        assertEquals("2.0.0", text(index.latestInMajor(2, false)));
+        assertEquals("99999999999999999999.0.0", text(index.ceiling(Semver.parse("9223372036854775808.0.0"))));
+    }
+
+    @Test
+    @DisplayName("Builder merges added versions with the index")
+    void builderMergesAddedVersionsWithTheIndex() {
+        var builder = INDEX.toBuilder();
+        assertSame(INDEX, builder.build());
+        var index = builder.add(Semver.parse("1.4.8")).add(Semver.parse("2.0.0")).add(Semver.parse("0.1.0")).build();
+        assertEquals(13, index.size());
+        assertEquals("1.4.8", text(index.higher(Semver.parse("1.4.7"))));
+        assertEquals(11, INDEX.size());
+        var next = builder.add(Semver.parse("3.0.0")).build();
+        assertEquals(14, next.size());
+        assertEquals("3.0.0", text(next.latestInMajor(3, false)));
+        var fromView = INDEX.tailIndex(Semver.parse("2.0.0"), true).toBuilder().add(Semver.parse("1.0.0")).build();
+        assertEquals("[1.0.0, 2.0.0, 2.0.1, 2.1.0-rc.1, 3.0.0-alpha]", fromView.toString());
+    }
+
+    @Test
+    @DisplayName("Builder agrees with sorting all versions")
+    void builderAgreesWithSortingAllVersions() {
+        var random = new Random(42);
+        var versions = Stream.generate(() -> random.nextInt(3) + "." + random.nextInt(3) + "." + random.nextInt(3)
+                + (random.nextBoolean() ? "-rc." + random.nextInt(3) : "") + (random.nextInt(4) == 0 ? "+b"
+                        + random.nextInt(2) : "")).limit(500).map(Semver::parse).collect(Collectors.toList());
+        var builder = SemverIndex.builder();
+        SemverIndex index = null;
+        for (var i = 0; i < versions.size(); i += 50) {
+            index = builder.addAll(versions.subList(i, i + 50)).build();
+        }
+        var expected = new ArrayList<>(new HashSet<>(versions));
+        Collections.sort(expected);
+        assertEquals(expected.size(), index.size());
+        for (var i = 0; i < expected.size(); i++) {
+            assertEquals(0, expected.get(i).compareTo(index.get(i)));
+        }
+        assertEquals(index, SemverIndex.of(versions));
+    }
+
+    private static SemverIndex index(String... versions) {
+        return SemverIndex.of(Stream.of(versions).map(Semver::parse).collect(Collectors.toList()));
+    }
+
+    private static String text(Semver version) {
+        return version == null ? null : version.toString();
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemverRangeTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "'>=1.2.0 <2.0.0', '>=1.2.0 <2.0.0'",
+            "'^1.4', '>=1.4.0 <2.0.0-0'",
+            "'^1.2.3-beta.2', '>=1.2.3-beta.2 <2.0.0-0'",
+            "'^0.1.3', '>=0.1.3 <0.2.0-0'",
+            "'^0.0.3', '>=0.0.3 <0.0.4-0'",
+            "'^0.0', '>=0.0.0 <0.1.0-0'",
+            "'^0.x', '>=0.0.0 <1.0.0-0'",
+            "'~2.3.1', '>=2.3.1 <2.4.0-0'",
+            "'~2.3', '>=2.3.0 <2.4.0-0'",
+            "'~>2', '>=2.0.0 <3.0.0-0'",
+            "'1.x || >=3.0.0-rc.1', '>=1.0.0 <2.0.0-0 || >=3.0.0-rc.1'",
+            "'1.2.*', '>=1.2.0 <1.3.0-0'",
+            "'1', '>=1.0.0 <2.0.0-0'",
+            "'*', '*'",
+            "'', '*'",
+            "'x.x.x', '*'",
+            "'1.2.3', '1.2.3'",
+            "'=v1.2.3+build.1', '1.2.3'",
+            "'>1.2', '>=1.3.0-0'",
+            "'>=1.2', '>=1.2.0-0'",
+            "'>=v1.2.3', '>=1.2.3'",
+            "'>1.2.3', '>1.2.3'",
+            "'<1.2', '<1.2.0-0'",
+            "'<=1.2', '<1.3.0-0'",
+            "'<= 1.2.3', '<=1.2.3'",
+            "'1.2 - 2.3', '>=1.2.0 <2.4.0-0'",
+            "'1.2.3 - 2.3.4', '>=1.2.3 <=2.3.4'",
+            "'* - 2', '<3.0.0-0'",
+            "'>=2.0.0 <1.0.0', '<0.0.0-0'",
+            "'<*', '<0.0.0-0'",
+            "'>=1.0.0 <1.5.0 || >=1.2.0 <2.0.0', '>=1.0.0 <2.0.0'",
+            "'<1.0.0 || >=1.0.0', '*'",
+            "'1.2.3 || 1.2.4 || 1.2.3', '1.2.3 || 1.2.4'",
+            "'>=2147483647.2147483647.2147483647', '>=2147483647.2147483647.2147483647'",
+            "'~2147483647.2147483647', '>=2147483647.2147483647.0 <2147483647.2147483648.0-0'",
+            "'>2147483647', '>=2147483648.0.0-0'",
+            "'^99999999999999999999.1', '>=99999999999999999999.1.0 <100000000000000000000.0.0-0'",
+            "'>9223372036854775807.x', '>=9223372036854775808.0.0-0'",
+            "'0.0.99999999999999999999', '0.0.99999999999999999999'",
+    })
+    @DisplayName("Parse normalizes expressions")
+    void parseNormalizesExpressions(String expression, String expected) {
+        var range = SemverRange.parse(expression);
+        assertEquals(expected, range.toString());
+        assertEquals(range, SemverRange.parse(range.toString()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"latest", "1.2.3.4", "01.2", "1.2.", ">=", "1 - ", "1.2-rc", ">=1.0.0 <", "1.2.3 - 2 - 3",
+            "^~1.2", "1..2", "1.2.3-", "01.2.99999999999999999999", "vv1.2.3", ">=vv1.2", "Vv1.x"})
+    @DisplayName("Invalid expressions throw")
+    void invalidExpressionsThrow(String expression) {
+        var ex = assertThrows(IllegalArgumentException.class, () -> SemverRange.parse(expression));
+        assertEquals("Invalid version range '" + expression + "'", ex.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "'>=1.2.0 <2.0.0', 1.2.0-0, false",
+            "'>=1.2.0 <2.0.0', 1.2.0, true",
+            "'>=1.2.0 <2.0.0', 1.9.9+build, true",
+            "'>=1.2.0 <2.0.0', 2.0.0-rc.1, true",
+            "'>=1.2.0 <2.0.0', 2.0.0, false",
+            "'^1.2', 1.2.0, true",
+            "'^1.2', 1.1.9, false",
+            "'^1.2', 2.0.0-0, false",
+            "'~1.2.3', 1.2.3-beta.2, false",
+            "'~1.2.3', 1.2.3+build.5, true",
+            "'~1.2.3', 1.2.9, true",
+            "'~1.2.3', 1.3.0-0, false",
+            "'1.x || >=3.0.0-rc.1', 0.9.9, false",
+            "'1.x || >=3.0.0-rc.1', 1.0.0-alpha, false",
+            "'1.x || >=3.0.0-rc.1', 1.0.0, true",
+            "'1.x || >=3.0.0-rc.1', 2.0.0, false",
+            "'1.x || >=3.0.0-rc.1', 3.0.0-beta, false",
+            "'1.x || >=3.0.0-rc.1', 3.0.0-rc.1, true",
+            "'1.x || >=3.0.0-rc.1', 2147483647.2147483647.2147483647, true",
+            "'1.x || >=3.0.0-rc.1', 99999999999999999999.0.0, true",
+            "'~1.0.20230117093015', 1.0.20230117093016, true",
+            "'^9223372036854775807', 9223372036854775808.0.0-0, false",
+            "'^9223372036854775807', 9223372036854775807.9223372036854775808.0, true",
+            "'1.2.3', 1.2.3+build, true",
+            "'1.2.3', 1.2.3-0, false",
+            "'<=1.2.3', 0.0.0-0, true",
+            "'<=1.2.3', 1.2.3, true",
+            "'<=1.2.3', 1.2.4-0, false",
+            "'>1.2.3 <=2.0.0-rc.1 || 2.3.x || >=10', 1.2.3, false",
+            "'>1.2.3 <=2.0.0-rc.1 || 2.3.x || >=10', 1.2.4-0, true",
+            "'>1.2.3 <=2.0.0-rc.1 || 2.3.x || >=10', 2.0.0-rc.1, true",
+            "'>1.2.3 <=2.0.0-rc.1 || 2.3.x || >=10', 2.0.0-rc.2, false",
+            "'>1.2.3 <=2.0.0-rc.1 || 2.3.x || >=10', 2.3.1, true",
+            "'>1.2.3 <=2.0.0-rc.1 || 2.3.x || >=10', 2.4.0, false",
+            "'>1.2.3 <=2.0.0-rc.1 || 2.3.x || >=10', 10.0.0, true",
+            "'<1.2.3-beta.2 || >1.2.3-beta.2', 1.2.3-beta.2+build, false",
+            "'<1.2.3-beta.2 || >1.2.3-beta.2', 1.2.3-beta.10, true",
+            "'<1.2.3-beta.2 || >1.2.3-beta.2', 1.2.3-beta.1, true",
+            "'>=2.0.0 <1.0.0', 1.5.0, false",
+            "'*', 0.0.0-0, true",
+    })
+    @DisplayName("Test matches versions in the range")
+    void testMatchesVersionsInTheRange(String expression, String version, boolean expected) {
+        assertEquals(expected, SemverRange.parse(expression).test(Semver.parse(version)));
+    }
+
+    @Test
+    @DisplayName("Set algebra on ranges")
+    void setAlgebraOnRanges() {
+        var oneX = SemverRange.parse("1.x");
+        var caret = SemverRange.parse("^1.2.3");
+        var pre = SemverRange.parse(">=3.0.0-rc.1");
+
+        assertEquals(">=2.1.0-0 <3.0.0-0",
+                SemverRange.parse("1.2.3 || 2.x").intersect(SemverRange.parse("^1.2.4 || >=2.1")).toString());
+        assertEquals(">=2.0.0-0", caret.complement().intersect(SemverRange.parse("1.2.3 || >=2"))
+                .union(SemverRange.parse(">=2.0.0-0 <3.0.0-rc.1")).toString());
+        assertEquals(caret, oneX.intersect(caret));
+        assertEquals(oneX, oneX.union(caret));
+        assertEquals("<1.0.0 || >=2.0.0-0", oneX.complement().toString());
+        assertEquals(oneX, oneX.complement().complement());
+        assertEquals(SemverRange.all(), SemverRange.none().complement());
+        assertEquals(SemverRange.none(), SemverRange.all().complement());
+        assertTrue(caret.isSubsetOf(oneX));
+        assertFalse(oneX.isSubsetOf(caret));
+        assertTrue(SemverRange.none().isSubsetOf(caret));
+        assertTrue(oneX.intersects(caret));
+        assertFalse(oneX.intersects(pre));
+        assertTrue(oneX.union(pre).complement().intersect(pre).isEmpty());
+        assertEquals("<1.2.3 || >1.2.3", SemverRange.exactly(Semver.parse("1.2.3+build")).complement().toString());
+        assertEquals(SemverRange.parse(">=1.2.3 <2.0.0"),
+                SemverRange.atLeast(Semver.parse("1.2.3")).intersect(SemverRange.lessThan(Semver.parse("2.0.0"))));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "'>1.2', '<=1.2', 1.3.0-alpha",
+            "'>1', '<=1', 2.0.0-rc.1",
+            "'>=1.2', '<1.2', 1.2.0-alpha",
+            "'>=1.x', '<1.x', 1.0.0-0",
+            "'>1.2.3', '<=1.2.3', 1.2.4-0",
+    })
+    @DisplayName("A partial comparator and its opposite partition the versions")
+    void partialComparatorAndOppositePartitionTheVersions(String expression, String opposite, String version) {
+        var range = SemverRange.parse(expression);
+        var other = SemverRange.parse(opposite);
+        var semver = Semver.parse(version);
+
+        assertEquals(other, range.complement());
+        assertTrue(range.test(semver) != other.test(semver));
+    }
+}
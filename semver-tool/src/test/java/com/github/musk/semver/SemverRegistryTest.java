@@ -0,0 +1,152 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SemverRegistryTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1.0.0 1.2.0 1.1.0 1.2.0                 | true true false false | 1.2.0 |",
+            "1.0.0-rc.1 1.0.0-rc.10 1.0.0-rc.2       | true true false       |       | 1.0.0-rc.10",
+            "2.0.0-rc.1 1.0.0 1.5.0-beta 1.0.0+b.1   | true true false false | 1.0.0 | 2.0.0-rc.1",
+            "1.0.0+b.1 1.0.0 1.0.0+b.2               | true true false       | 1.0.0 |"})
+    @DisplayName("Offers advance the highest release and prerelease")
+    void offersAdvanceTheHighestReleaseAndPrerelease(String versions, String advanced, String release,
+            String prerelease) {
+        var registry = new SemverRegistry<String>();
+        var offered = versions.split(" ");
+        var expected = advanced.split(" ");
+        for (var i = 0; i < offered.length; i++) {
+            assertEquals(Boolean.parseBoolean(expected[i]), registry.offer("app", Semver.parse(offered[i])),
+                    offered[i]);
+        }
+        assertEquals(release, text(registry.latestRelease("app")));
+        assertEquals(prerelease, text(registry.latestPrerelease("app")));
+    }
+
+    @Test
+    @DisplayName("Unknown keys have no versions")
+    void unknownKeysHaveNoVersions() {
+        var registry = new SemverRegistry<String>();
+        assertNull(registry.latestRelease("app"));
+        assertNull(registry.latestPrerelease("app"));
+        assertNull(registry.latest("app"));
+        assertEquals(0, registry.size());
+        assertTrue(registry.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Latest is the higher of release and prerelease")
+    void latestIsTheHigherOfReleaseAndPrerelease() {
+        var registry = new SemverRegistry<String>();
+        registry.offer("app", Semver.parse("1.0.0"));
+        assertEquals(Semver.parse("1.0.0"), registry.latest("app"));
+        registry.offer("app", Semver.parse("1.0.0-rc.1"));
+        assertEquals(Semver.parse("1.0.0"), registry.latest("app"));
+        registry.offer("app", Semver.parse("1.1.0-rc.1"));
+        assertEquals(Semver.parse("1.1.0-rc.1"), registry.latest("app"));
+    }
+
+    @Test
+    @DisplayName("Snapshots are copies")
+    void snapshotsAreCopies() {
+        var registry = new SemverRegistry<String>();
+        registry.offer("app", Semver.parse("1.0.0"));
+        registry.offer("lib", Semver.parse("2.0.0-rc.1"));
+        var snapshot = registry.snapshot();
+        registry.offer("app", Semver.parse("1.1.0"));
+        registry.offer("tool", Semver.parse("0.1.0"));
+
+        assertEquals(2, snapshot.size());
+        assertEquals(new SemverRegistry.Latest(Semver.parse("1.0.0"), null), snapshot.get("app"));
+        assertEquals("{release=null, prerelease=2.0.0-rc.1}", snapshot.get("lib").toString());
+        assertEquals(Semver.parse("1.1.0"), registry.snapshot().get("app").release());
+        assertEquals(3, registry.size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove("app"));
+    }
+
+    @Test
+    @DisplayName("Listeners are notified about advanced maxima")
+    void listenersAreNotifiedAboutAdvancedMaxima() {
+        var registry = new SemverRegistry<String>();
+        var changes = new ArrayList<String>();
+        SemverRegistry.Listener<String> listener = (key, previous, current) -> changes.add(
+                key + ": " + previous + " -> " + current);
+        registry.addListener(listener);
+        registry.offer("app", Semver.parse("1.0.0"));
+        registry.offer("app", Semver.parse("0.9.0"));
+        registry.offer("app", Semver.parse("1.1.0-rc.1"));
+        registry.offer("app", Semver.parse("1.1.0"));
+        registry.removeListener(listener);
+        registry.offer("app", Semver.parse("1.2.0"));
+
+        assertEquals(List.of("app: null -> 1.0.0", "app: null -> 1.1.0-rc.1", "app: 1.0.0 -> 1.1.0"), changes);
+    }
+
+    @Test
+    @DisplayName("Concurrent offers keep the maximum")
+    void concurrentOffersKeepTheMaximum() throws InterruptedException {
+        var registry = new SemverRegistry<Integer>();
+        var advanced = new AtomicInteger();
+        var notified = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        registry.addListener((key, previous, current) -> {
+            assertTrue(previous == null || previous.compareTo(current) < 0);
+            notified.add(key + ":" + current);
+        });
+        var executor = Executors.newFixedThreadPool(8);
+        for (var t = 0; t < 8; t++) {
+            var offset = t;
+            executor.execute(() -> {
+                for (var i = 0; i < 10_000; i++) {
+                    if (registry.offer(i % 10, version(i, offset))) {
+                        advanced.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        var expected = new SemverRegistry<Integer>();
+        for (var t = 0; t < 8; t++) {
+            for (var i = 0; i < 10_000; i++) {
+                expected.offer(i % 10, version(i, t));
+            }
+        }
+        assertEquals(expected.snapshot(), registry.snapshot());
+        assertEquals(advanced.get(), notified.size());
+        assertFalse(notified.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Null versions and listeners are rejected")
+    void nullVersionsAndListenersAreRejected() {
+        var registry = new SemverRegistry<String>();
+        assertThrows(IllegalArgumentException.class, () -> registry.offer("app", null));
+        assertThrows(IllegalArgumentException.class, () -> registry.addListener(null));
+    }
+
+    private static Semver version(int i, int offset) {
+        return new Semver(1, 0, (i * 31 + offset * 17) % 1000, i % 3 == 0 ? "rc.1" : null, null);
+    }
+
+    private static String text(Semver version) {
+        return version != null ? version.toString() : null;
+    }
+}
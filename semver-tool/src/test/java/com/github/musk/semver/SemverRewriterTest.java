@@ -0,0 +1,150 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemverRewriterTest {
+
+    private static final Pattern TOKEN = Pattern.compile("[0-9A-Za-z.+-]+");
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "<version>1.2.3</version>               | <version>1.3.0</version>           | 1",
+            "\"version\": \"v1.2.3-rc.1+b.7\",      | \"version\": \"v1.3.0\",           | 1",
+            "lodash@4.17.21 and 1.0.0               | lodash@4.18.0 and 1.1.0            | 2",
+            "foo-1.2.3.jar 1.2 1.2.3.4 x1.2.3       | foo-1.2.3.jar 1.2 1.2.3.4 x1.2.3   | 0",
+            "1.2.3                                  | 1.3.0                              | 1",
+            "a=1.2.3;b=V2.0.0\\n                     | a=1.3.0;b=V2.1.0\\n                 | 2"})
+    @DisplayName("Version tokens are bumped")
+    void versionTokensAreBumped(String content, String expected, long count) throws IOException {
+        var file = write(content.trim().replace("\\n", "\n"));
+        assertEquals(count, SemverRewriter.of(Bump.MINOR).rewrite(file));
+        assertEquals(expected.trim().replace("\\n", "\n"), read(file));
+    }
+
+    @Test
+    @DisplayName("Only versions matching the filter are rewritten")
+    void onlyVersionsMatchingTheFilterAreRewritten() throws IOException {
+        var file = write("core 1.2.3, api 2.0.0-rc.1, util 1.9.9");
+        var rewriter = SemverRewriter.of(version -> version.prerel("rc.2"))
+                .filter(version -> version.getMajor() == 1)
+                .filter(version -> version.getMinor() < 5);
+        assertEquals(1, rewriter.rewrite(file));
+        assertEquals("core 1.2.3-rc.2, api 2.0.0-rc.1, util 1.9.9", read(file));
+    }
+
+    @Test
+    @DisplayName("Unchanged files are not written")
+    void unchangedFilesAreNotWritten() throws IOException {
+        var file = write("release 1.2.3 and 2.0.0+b.1");
+        var modified = FileTime.fromMillis(1_000_000);
+        Files.setLastModifiedTime(file, modified);
+
+        UnaryOperator<Semver> keep = version -> version.getBuild() != null ? null : version.release();
+        assertEquals(0, SemverRewriter.of(keep).rewrite(file));
+        assertEquals("release 1.2.3 and 2.0.0+b.1", read(file));
+        assertEquals(modified, Files.getLastModifiedTime(file));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Source is copied to a different target")
+    void sourceIsCopiedToADifferentTarget() throws IOException {
+        var source = write("no versions here");
+        var target = tempDir.resolve("target.txt");
+        assertEquals(0, SemverRewriter.of(Bump.MAJOR).rewrite(source, target));
+        assertEquals("no versions here", read(target));
+
+        Files.writeString(source, "version 1.0.0");
+        assertEquals(1, SemverRewriter.of(Bump.MAJOR).rewrite(source, target));
+        assertEquals("version 2.0.0", read(target));
+        assertEquals("version 1.0.0", read(source));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 1000, 40_000})
+    @DisplayName("Large files are rewritten like a whole file replace")
+    void largeFilesAreRewrittenLikeAWholeFileReplace(int gap) throws IOException {
+        var random = new Random(gap);
+        var content = new StringBuilder();
+        while (content.length() < 600_000) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    content.append(random.nextInt(5)).append('.').append(random.nextInt(20)).append('.')
+                            .append(random.nextInt(30));
+                    break;
+                case 1:
+                    content.append("v1.").append(random.nextInt(9)).append(".0-rc.").append(random.nextInt(9));
+                    break;
+                case 2:
+                    // tokens of up to 256 characters are versions, longer ones are not looked at
+                    content.append("1.0.0-").append("x".repeat(random.nextInt(400)));
+                    break;
+                case 3:
+                    content.append("sha512-").append(Integer.toHexString(random.nextInt()));
+                    break;
+                default:
+                    content.append(" ".repeat(random.nextInt(gap)));
+            }
+            content.append(random.nextBoolean() ? "\"" : "\n");
+        }
+        var file = write(content.toString());
+
+        UnaryOperator<Semver> operator = version -> version.bump(Bump.PATCH);
+        var count = SemverRewriter.of(operator).filter(version -> version.getMinor() % 2 == 0).rewrite(file);
+
+        var expected = new StringBuilder();
+        var expectedCount = 0;
+        var matcher = TOKEN.matcher(content);
+        while (matcher.find()) {
+            var token = matcher.group();
+            var version = Semver.tryParse(token).filter(v -> v.getMinor() % 2 == 0 && token.length() <= 256);
+            if (version.isPresent()) {
+                var prefix = token.startsWith("v") ? "v" : "";
+                matcher.appendReplacement(expected, prefix + operator.apply(version.get()));
+                expectedCount++;
+            }
+        }
+        matcher.appendTail(expected);
+        assertEquals(expectedCount, count);
+        assertEquals(expected.toString(), read(file));
+    }
+
+    @Test
+    @DisplayName("Illegal arguments are rejected")
+    void illegalArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SemverRewriter.of((Bump) null));
+        assertThrows(IllegalArgumentException.class, () -> SemverRewriter.of((UnaryOperator<Semver>) null));
+        assertThrows(IllegalArgumentException.class, () -> SemverRewriter.of(Bump.MAJOR).filter(null));
+    }
+
+    private Path write(String content) throws IOException {
+        var file = tempDir.resolve("file.txt");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SemverSortTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "10, 3",
+            "10000, 3",
+            "100000, 3",
+            "100000, 2000000",
+            "100000, 2147483647",
+    })
+    @DisplayName("Parallel sort agrees with a stable comparison sort")
+    void parallelSortAgreesWithAStableComparisonSort(int size, int bound) {
+        var versions = random(size, bound);
+        var expected = versions.clone();
+        Arrays.sort(expected);
+
+        SemverSort.parallelSort(versions);
+
+        assertEquals(expected.length, versions.length);
+        for (var i = 0; i < expected.length; i++) {
+            // same instances, as equal versions keep their order
+            assertSame(expected[i], versions[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel sort of numbers beyond a long")
+    void parallelSortOfNumbersBeyondALong() {
+        var versions = random(10000, 100);
+        versions[42] = Semver.parse("1.99999999999999999999.0");
+        versions[4242] = Semver.parse("1.9223372036854775807.0");
+        var expected = versions.clone();
+        Arrays.sort(expected);
+
+        SemverSort.parallelSort(versions);
+
+        assertArrayEquals(expected, versions);
+    }
+
+    @Test
+    @DisplayName("Parallel sort of an empty array")
+    void parallelSortOfAnEmptyArray() {
+        var versions = new Semver[0];
+        SemverSort.parallelSort(versions);
+        assertArrayEquals(new Semver[0], versions);
+    }
+
+    @Test
+    @DisplayName("Top k returns the highest versions in descending order")
+    void topKReturnsTheHighestVersionsInDescendingOrder() {
+        var versions = parse("1.0.0", "3.0.0-rc.1", "2.0.0+b", "0.1.0", "3.0.0", "2.0.0", "2.0.0+a");
+
+        assertEquals(parse("3.0.0", "3.0.0-rc.1", "2.0.0"), SemverSort.topK(versions, 3));
+        assertEquals(parse("3.0.0", "3.0.0-rc.1", "2.0.0", "2.0.0+b", "2.0.0+a"), SemverSort.topK(versions, 5));
+        assertEquals(parse("3.0.0", "3.0.0-rc.1", "2.0.0", "2.0.0+b", "2.0.0+a", "1.0.0", "0.1.0"),
+                SemverSort.topK(versions, 10));
+        assertEquals(SemverSort.topK(versions, 10), SemverSort.topK(versions, Integer.MAX_VALUE));
+        assertEquals(SemverSort.topK(versions, 10), SemverSort.topK(versions::iterator, Integer.MAX_VALUE));
+        assertEquals(SemverSort.topK(versions, 3), SemverSort.topK(versions::iterator, 3));
+        assertTrue(SemverSort.topK(versions, 0).isEmpty());
+        var ex = assertThrows(IllegalArgumentException.class, () -> SemverSort.topK(versions, -1));
+        assertEquals("k must not be negative but was '-1'", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Max and min")
+    void maxAndMin() {
+        var versions = Arrays.asList(random(10000, 100));
+        var sorted = versions.toArray(new Semver[0]);
+        Arrays.sort(sorted);
+
+        assertEquals(0, sorted[sorted.length - 1].compareTo(SemverSort.max(versions).orElseThrow()));
+        assertEquals(0, sorted[0].compareTo(SemverSort.min(versions).orElseThrow()));
+        assertEquals(Optional.empty(), SemverSort.max(List.of()));
+        assertEquals(Optional.empty(), SemverSort.min(List.of()));
+    }
+
+    private static Semver[] random(int size, int bound) {
+        var random = new Random(size ^ bound);
+        var versions = new Semver[size];
+        for (var i = 0; i < size; i++) {
+            var prerel = random.nextInt(3) == 0 ? "rc." + random.nextInt(3) : null;
+            var build = random.nextInt(4) == 0 ? "b" + random.nextInt(2) : null;
+            versions[i] = new Semver(skewed(random, bound), skewed(random, bound), skewed(random, bound), prerel,
+                    build);
+        }
+        return versions;
+    }
+
+    private static int skewed(Random random, int bound) {
+        return random.nextBoolean() ? random.nextInt(3) : random.nextInt(bound);
+    }
+
+    private static List<Semver> parse(String... versions) {
+        return Stream.of(versions).map(Semver::parse).collect(Collectors.toList());
+    }
+}
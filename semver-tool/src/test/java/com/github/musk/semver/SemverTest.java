@@ -0,0 +1,601 @@
+package com.github.musk.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemverTest {
+    @ParameterizedTest
+    @DisplayName("Create semver with all parts")
+    @CsvSource({
+            "0.2.1                 , RELEASE, 0.2.1 , no-op",
+            "0.2.1                 , MAJOR  , 1.0.0 , major",
+            "1.9.1                 , MAJOR  , 2.0.0 , minor",
+            "v0.2.1                , MAJOR  , 1.0.0 , v major",
+            "V0.2.1                , MAJOR  , 1.0.0 , V major",
+            "0.2.1                 , MINOR  , 0.3.0 , minor",
+            "1.9.1                 , MINOR  , 1.10.0, patch",
+            "0.2.1                 , PATCH  , 0.2.2 , patch",
+            "0.2.1-rc1.0           , PATCH  , 0.2.2 , strip pre-release",
+            "0.2.1-rc1.0+build-1234, PATCH  , 0.2.2 , strip pre-release and build"
+    })
+    void createSemverWithAllParts(String version, String level, String result, String details) {
+        var semver = new Semver(version).bump(Bump.valueOf(level));
+        assertEquals(result, semver.text(), details);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Bump prerelease")
+    @CsvSource({"0.2.1         , rc.1     , 0.2.1-rc.1     , add prerel",
+                "0.2.1-0.2+b13 , rc.1     , 0.2.1-rc.1     , replace and strip build metadata",
+                "0.2.1+b13     , rc.1     , 0.2.1-rc.1     , strip build metadata",
+                "0.2.1+b13     , rc.1+b.2 , 0.2.1-rc.1+b.2 , split off build metadata"})
+    void bumpPrerelease(String version, String prerel, String result, String details) {
+        var semver = new Semver(version).prerel(prerel);
+        assertEquals(result, semver.text(), details);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Throw IllegalArgumentException on wrong prerel")
+    @CsvSource({"1.0.0, x.7.z.092",
+                "1.0.0, x.=.z.92",
+                "1.0.0, x.7.z..92",
+                "1.0.0, .x.7.z.92",
+                "1.0.0, x.7.z.92.",
+                "1.0.0, +b.2",
+                "1.0.0, rc.1+",
+                "1.0.0, rc.1+b+2"})
+    void throwIllegalArgumentExceptionOnWrongPrerel(String version, String prerel) {
+        // given
+        var semver = new Semver(version);
+        // then
+        assertThrows(IllegalArgumentException.class, () -> semver.prerel(prerel), "Prerel:" + prerel);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Bump build version")
+    @CsvSource({"0.2.1+b13      , b.1       , 0.2.1+b.1       , replace build metadata",
+                "0.2.1-rc12+b13 , b.1       , 0.2.1-rc12+b.1  , preserve prerel, replace build metadata",
+                "1.0.0          , x.7.z.092 , 1.0.0+x.7.z.092 , attach build metadata"})
+    void bumpBuildVersion(String version, String build, String result, String details) {
+        var semver = new Semver(version).build(build);
+        assertEquals(result, semver.text(), details);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Bump build version fails with IllegalArgumentException")
+    @CsvSource({"1.0.0  , x.=.z.92  , bump invalid character in build-metadata: x.=.z.92",
+            "1.0.0  , x.7.z..92 , bump invalid character in build-metadata: x.7.z..92",
+            "1.0.0  , .x.7.z.92 , bump invalid character in build-metadata: .x.7.z.92",
+            "1.0.0  , x.7.z.92. , bump invalid character in build-metadata: ",
+            "1.0.0  , 7.z\\$.92  , bump invalid character in build-metadata: 7.z\\$.92",
+            "1.0.0  , 7.z.92._  , bump invalid character in build-metadata: 7.z.92._",
+            "1.0.0  , 7.z..92   , bump empty identifier in build-metadata (embedded)",
+            "1.0.0  , .x.7.z.92 , bump empty identifier in build-metadata (leading)",
+            "1.0.0  , z.92.     , bump empty identifier in build-metadata (trailing)"})
+    void bumpBuildVersionFailsWithIllegalArgumentException(String version, String build, String details) {
+        var semver = Semver.parse(version);
+        assertThrows(IllegalArgumentException.class, () -> semver.build(build), details);
+    }
+
+    @Test
+    @DisplayName("Get Major")
+    void getMajor() {
+        var semver = new Semver("0.2.1-rc1.0+build-1234");
+        assertEquals(0, semver.getMajor());
+    }
+
+    @Test
+    @DisplayName("Get Minor")
+    void getMinor() {
+        var semver = new Semver("0.2.1-rc1.0+build-1234");
+        assertEquals(2, semver.getMinor());
+    }
+
+    @Test
+    @DisplayName("Get Patch")
+    void getPatch() {
+        var semver = new Semver("0.2.1-rc1.0+build-1234");
+        assertEquals(1, semver.getPatch());
+    }
+
+    @ParameterizedTest
+    @DisplayName("Get prerel")
+    @CsvSource({"0.2.1-rc1.0+build-1234 , rc1.0",
+                "1.0.0-alpha            , alpha",
+                "1.0.0-alpha.1          , alpha.1",
+                "1.0.0-0alpha.1         , 0alpha.1",
+                "1.0.0-0.3.7            , 0.3.7",
+                "1.0.0-x.7.z.92         , x.7.z.92",
+                "1.0.0-x-.7.--z.92-     , x-.7.--z.92-"})
+    void getPrerel(String version, String prerel) {
+        var semver = new Semver(version);
+        assertEquals(prerel, semver.getPrerel());
+    }
+
+    @ParameterizedTest
+    @DisplayName("Get build")
+    @CsvSource({"0.2.1-rc1.0+build-1234     , build-1234",
+                "1.0.0-alpha+001            , 001",
+                "1.0.0+20130313144700       , 20130313144700",
+                "1.0.0-beta+exp.sha.5114f85 , exp.sha.5114f85",
+                "1.0.0+exp.sha.5114f85      , exp.sha.5114f85",
+                "1.0.0-x.7.z.92+02          , 02",
+                "1.0.0-x.7.z.92+-alpha-2    , -alpha-2",
+                "1.0.0-x.7.z.92+-alpha-2-   , -alpha-2-"})
+    void getBuild(String version, String build) {
+        var semver = new Semver(version);
+        assertEquals(build, semver.getBuild());
+    }
+
+    @Test
+    @DisplayName("Get release")
+    void getRelease() {
+        var semver = new Semver("0.2.1-rc1.0+build-1234").release();
+        assertEquals("0.2.1", semver.text());
+    }
+
+    @Test
+    @DisplayName("Bump major")
+    void bumpMajor() {
+        var semver = new Semver("1.2.3").major();
+        assertEquals(2, semver.getMajor());
+        assertEquals("2.0.0", semver.text());
+    }
+
+    @Test
+    @DisplayName("Bump minor")
+    void bumpMinor() {
+        var semver = new Semver("1.2.3").minor();
+        assertEquals(3, semver.getMinor());
+        assertEquals("1.3.0", semver.text());
+    }
+
+    @Test
+    @DisplayName("Bump patch")
+    void bumpPatch() {
+        var semver = new Semver("1.2.3").patch();
+        assertEquals(4, semver.getPatch());
+        assertEquals("1.2.4", semver.text());
+    }
+
+    @Test
+    @DisplayName("Bump null throws IllegalArgumentException")
+    void bumpNullThrowsIllegalArgumentException() {
+        var semver = Semver.parse("1.2.3");
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> {
+            semver.bump(null);
+        });
+        assertEquals("Bump ´null´ is unkown", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Bump release")
+    void bumpRelease() {
+        var semver = new Semver("1.2.3-SNAPSHOT").bump(Bump.RELEASE);
+        assertEquals("1.2.3", semver.text());
+    }
+
+    @ParameterizedTest
+    @DisplayName("Test message on throwing IllegalArgumentException")
+    @CsvSource({"Invalid semantic version 'foo', foo",
+                "Invalid semantic version '1.2.', 1.2.",
+                "Invalid semantic version '1.2.4-', 1.2.4-",
+                "Invalid semantic version '1.2.4+', 1.2.4+"})
+    void testMessageOnThrowingIllegalArgumentException (String message, String version) {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new Semver(version));
+        assertEquals(message, ex.getMessage());
+    }
+
+    @ParameterizedTest
+    @DisplayName("Validate returns false on invalid version")
+    @CsvSource({"1."           ,
+                "1.2"              ,
+                ".2.3"             ,
+                "01.9.1"           ,
+                "1.09.1"           ,
+                "1.9.01"           ,
+                "1.9.00"           ,
+                "1.9a.0"           ,
+                "-1.9.0"           ,
+                "1.0.0-x.7.z\\$.92" ,
+                "1.0.0-x_.7.z.92"  ,
+                "1.0.0-x.7.z.092"  ,
+                "1.0.0-x.07.z.092" ,
+                "1.0.0-x.7.z..92"  ,
+                "1.0.0-.x.7.z.92"  ,
+                "1.0.0-x.7.z.92."  ,
+                "1.0.0-x+7.z\\$.92" ,
+                "1.0.0-x+7.z.92._" ,
+                "1.0.0+7.z\\$.92"   ,
+                "1.0.0-x+7.z..92"  ,
+                "1.0.0+.x.7.z.92"  ,
+                "1.0.0-x.7+z.92."
+    })
+    void validateReturnsFalseOnInvalidVersion(String version) {
+        assertFalse(Semver.validate(version), "Version: " + version);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Validate returns true on valid version")
+    @CsvSource({"0.0.0, 1.2.3-alpha01"})
+    void validateReturnsTrueOnValidVersion(String version) {
+        assertTrue(Semver.validate(version), "Version: " +version);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Numbers of any size are valid")
+    @CsvSource({"2147483648.0.0, 2147483648, 0, 0",
+                "1.0.20230117093015, 1, 0, 20230117093015",
+                "9223372036854775807.9223372036854775807.0, 9223372036854775807, 9223372036854775807, 0",
+                "0.9223372036854775808.0-rc.1, 0, 9223372036854775808, 0",
+                "1.2.99999999999999999999999999999999+b.7, 1, 2, 99999999999999999999999999999999"})
+    void numbersOfAnySizeAreValid(String version, String major, String minor, String patch) {
+        assertTrue(Semver.validate(version), "Version: " + version);
+        var semver = Semver.parse(version);
+        assertEquals(new BigInteger(major), semver.getMajorBigInteger());
+        assertEquals(new BigInteger(minor), semver.getMinorBigInteger());
+        assertEquals(new BigInteger(patch), semver.getPatchBigInteger());
+        assertEquals(version, semver.text());
+        assertEquals(semver, Semver.copy(semver));
+        assertEquals(semver.hashCode(), Semver.parse(version).hashCode());
+        assertEquals(semver, Semver.builder().withMajor(new BigInteger(major)).withMinor(new BigInteger(minor))
+                .withPatch(new BigInteger(patch)).withPrerel(semver.getPrerel()).withBuild(semver.getBuild()).build());
+    }
+
+    @Test
+    @DisplayName("Getters throw on numbers that do not fit into their type")
+    void gettersThrowOnNumbersThatDoNotFitIntoTheirType() {
+        assertEquals(Long.MAX_VALUE, Semver.parse("9223372036854775807.0.0").getMajorLong());
+        assertEquals(Integer.MAX_VALUE, Semver.parse("2147483647.0.0").getMajor());
+        assertThrows(ArithmeticException.class, () -> Semver.parse("1.2147483648.0").getMinor());
+        assertEquals(2147483648L, Semver.parse("1.2147483648.0").getMinorLong());
+        var semver = Semver.parse("1.9223372036854775808.3");
+        assertEquals(1, semver.getMajor());
+        assertEquals(3, semver.getPatchLong());
+        var ex = assertThrows(ArithmeticException.class, semver::getMinorLong);
+        assertEquals("Version number does not fit into a long", ex.getMessage());
+        assertThrows(ArithmeticException.class, semver::getMinor);
+    }
+
+    @Test
+    @DisplayName("TryParse returns the version")
+    void tryParseReturnsTheVersion() {
+        var semver = Semver.tryParse(new StringBuilder("v1.2.3-rc.1+b42"));
+        assertTrue(semver.isPresent());
+        assertEquals(Semver.parse("1.2.3-rc.1+b42"), semver.get());
+    }
+
+    @ParameterizedTest
+    @DisplayName("TryParse returns empty on invalid version")
+    @CsvSource({"latest", "^1.2", "1.2", "1.2.3-", "1.0.0-x.7.z.092", "1.0.0+.x"})
+    void tryParseReturnsEmptyOnInvalidVersion(String version) {
+        assertTrue(Semver.tryParse(version).isEmpty(), "Version: " + version);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Parse from bytes, buffers and char sequences")
+    @CsvSource({"1.2.3", "v1.2.3-rc.1", "0.2.1-rc1.0+build-1234", "1.0.0-x-.7.--z.92-+-alpha-2-"})
+    void parseFromBytesBuffersAndCharSequences(String version) {
+        var expected = Semver.parse(version);
+        var bytes = ("[" + version + "]").getBytes(StandardCharsets.US_ASCII);
+        var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(1).limit(bytes.length - 1);
+        var heap = ByteBuffer.wrap(bytes, 1, bytes.length - 2).slice();
+
+        assertEquals(expected, Semver.parse(bytes, 1, bytes.length - 2));
+        assertEquals(expected, Semver.parse(direct));
+        assertEquals(expected, Semver.parse(heap));
+        assertEquals(expected, Semver.parse(new StringBuilder(version)));
+        assertEquals(1, direct.position());
+        assertEquals(0, heap.position());
+        assertTrue(Semver.validate(bytes, 1, bytes.length - 2));
+        assertTrue(Semver.validate(direct));
+        assertTrue(Semver.validate(heap));
+        assertTrue(Semver.validate(new StringBuilder(version)));
+        assertFalse(Semver.validate(bytes, 0, bytes.length - 1));
+    }
+
+    @Test
+    @DisplayName("Parse from bytes rejects invalid input")
+    void parseFromBytesRejectsInvalidInput() {
+        var bytes = "1.2.3-\u00e4".getBytes(StandardCharsets.UTF_8);
+        assertFalse(Semver.validate(bytes, 0, bytes.length));
+        var ex = assertThrows(IllegalArgumentException.class, () -> Semver.parse(bytes, 0, 4));
+        assertEquals("Invalid semantic version '1.2.'", ex.getMessage());
+        assertThrows(IndexOutOfBoundsException.class, () -> Semver.parse(bytes, 2, bytes.length));
+    }
+
+    @ParameterizedTest
+    @DisplayName("Parser accepts the same language as the reference regex")
+    @ValueSource(strings = {"", "v", "1", "1.", "1.2", "1.2.", ".2.3", "1..3", "1.2.3", "v1.2.3", "V1.2.3", "vv1.2.3",
+            "x1.2.3", " 1.2.3", "1.2.3 ", "1.2.3\n", "0.0.0", "01.9.1", "1.09.1", "1.9.01", "1.9.00", "1.9a.0",
+            "-1.9.0", "10.20.30", "1.2.3-", "1.2.3+", "1.2.3-+", "1.2.3-0", "1.2.3-00", "1.2.3-01", "1.2.3-0a",
+            "1.2.3-a0", "1.2.3--", "1.2.3---", "1.2.3-0-", "1.2.3-x.7.z.92", "1.2.3-x.7.z.092", "1.2.3-x.07.z",
+            "1.2.3-x..z", "1.2.3-.x", "1.2.3-x.", "1.2.3-x_y", "1.2.3-\u00e4", "1.2.3+0", "1.2.3+00", "1.2.3+01.02",
+            "1.2.3+-", "1.2.3+a.", "1.2.3+.a", "1.2.3+a..b", "1.2.3+a+b", "1.2.3-a+b", "1.2.3-a+b-c.d",
+            "1.2.3-a-b+c", "1.2.3-rc1.0+build-1234", "1.0.0-x-.7.--z.92-", "1.0.0-x.7.z.92+-alpha-2-",
+            "1.0.0-alpha.1+exp.sha.5114f85", "1.0.0+20130313144700"})
+    void parserAcceptsTheSameLanguageAsTheReferenceRegex(String version) {
+        // Matcher groups
+        //        1. MAJOR
+        //        2. MINOR
+        //        3. PATCH
+        //        4. PRERELEASE
+        //        8. BUILD_METADATA
+        var matcher = Semver.Grammar.SEMVER_REGEX.matcher(version);
+        var matches = matcher.matches();
+        assertEquals(matches, Semver.validate(version), "Version: " + version);
+        if (matches) {
+            var semver = Semver.parse(version);
+            assertEquals(Integer.parseInt(matcher.group(1)), semver.getMajor(), "Major: " + version);
+            assertEquals(Integer.parseInt(matcher.group(2)), semver.getMinor(), "Minor: " + version);
+            assertEquals(Integer.parseInt(matcher.group(3)), semver.getPatch(), "Patch: " + version);
+            assertEquals(matcher.group(4) != null ? matcher.group(4).substring(1) : null, semver.getPrerel(),
+                    "Prerel: " + version);
+            assertEquals(matcher.group(8) != null ? matcher.group(8).substring(1) : null, semver.getBuild(),
+                    "Build: " + version);
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("Comparision works as expected")
+    @CsvSource({
+            "1.2.3             , <      , 2.2.3",
+            "1.0.0-alpha       , <      , 1.0.0-alpha.1",
+            "1.0.0-alpha.1     , <      , 1.0.0-alpha.beta",
+            "1.0.0-alpha.beta  , <      , 1.0.0-beta",
+            "1.0.0-beta        , <      , 1.0.0-beta.2",
+            "1.0.0-beta.2      , <      , 1.0.0-beta.11",
+            "1.0.0-beta.2.4    , >      , 1.0.0-beta.2.3",
+            "1.0.0-beta.2.4    , <      , 1.0.0-beta.2.4.0",
+            "1.0.0-beta.2.ab   , <      , 1.0.0-beta.2.ab.0",
+            "1.0.0-beta.2.ab.1 , >      , 1.0.0-beta.2.ab.0",
+            "1.0.0-beta.11     , <      , 1.0.0-rc.1",
+            "1.0.0-rc.1        , <      , 1.0.0",
+            "1.0.0             , >      , 1.0.0-rc.1",
+            "1.0.0-alpha       , >      , 1.0.0-666",
+            "1.0.0             , =      , 1.0.0",
+            "1.0.1             , >      , 1.0.0-rc1",
+            "1.0.0-beta2       , >      , 1.0.0-beta11",
+            "1.0.0-2           , <      , 1.0.0-11",
+            "1.0.0-beta1+a     , <      , 1.0.0-beta2+z",
+            "1.0.0-beta2+x     , =      , 1.0.0-beta2+y",
+            "1.0.0-12.beta2+x  , >      , 1.0.0-11.beta2+y",
+            "1.0.0+x           , =      , 1.0.0+y",
+            "0.2.1             , <      , 0.2.2",
+            "1.2.1             , =      , 1.2.1",
+            "0.3.1             , >      , 0.2.5",
+            "1.0.0+hash        , <      , 1.0.0",
+            "1.0.0-999         , <      , 1.0.0--",
+            "1.0.0-rc.9        , <      , 1.0.0-rc.-",
+            "1.0.0-rc.9        , <      , 1.0.0-rc.0a",
+            "1.0.0-99999999999 , >      , 1.0.0-10000000000",
+            "1.0.0-rc.99999999999999999999  , <  , 1.0.0-rc.100000000000000000000",
+            "1.0.0-rc.99999999999999999999  , >  , 1.0.0-rc.99999999999999999998",
+            "1.0.0-rc.99999999999999999999  , >  , 1.0.0-rc.999999999999999999",
+            "1.0.0-rc.99999999999999999999  , <  , 1.0.0-rc.a",
+            "1.0.0-rc.99999999999999999999  , =  , 1.0.0-rc.99999999999999999999",
+            "2147483648.0.0    , >      , 2147483647.0.0",
+            "1.0.20230117093015, >      , 1.0.20230116093015",
+            "9223372036854775808.0.0        , >  , 9223372036854775807.9.9",
+            "99999999999999999999.0.0       , <  , 100000000000000000000.0.0",
+            "1.99999999999999999999.0       , <  , 1.99999999999999999999.1",
+            "1.99999999999999999999.0-rc.1+a, =  , 1.99999999999999999999.0-rc.1+b"})
+    void comparisionWorksAsExpected(String v1, String operator, String v2) {
+        var left = Semver.parse(v1);
+        var right = Semver.parse(v2);
+        switch (operator) {
+            case "<":
+                assertTrue(left.compareTo(right) <= -1 && right.compareTo(left) >= 1, left + " < " + right);
+                break;
+            case ">":
+                assertTrue(left.compareTo(right) >= 1 && right.compareTo(left) <= -1, left + " > " + right);
+                break;
+            case "=":
+                assertTrue(left.compareTo(right) == 0 && right.compareTo(left) == 0, left + " = " + right);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown operator '" + operator + "'");
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("Sort keys have the order of compareTo")
+    @CsvSource({
+            "1.2.3, 2.2.3",
+            "1.2.3, 1.2.256",
+            "255.0.0, 256.0.0",
+            "0.0.0-0, 0.0.0",
+            "1.0.0-alpha, 1.0.0-alpha.1",
+            "1.0.0-alpha.1, 1.0.0-alpha.beta",
+            "1.0.0-alpha.beta, 1.0.0-beta",
+            "1.0.0-beta.2, 1.0.0-beta.11",
+            "1.0.0-beta.2.4, 1.0.0-beta.2.4.0",
+            "1.0.0-beta.2.ab, 1.0.0-beta.2.ab.0",
+            "1.0.0-rc.1, 1.0.0",
+            "1.0.0-666, 1.0.0-alpha",
+            "1.0.0-rc1, 1.0.1",
+            "1.0.0-beta11, 1.0.0-beta2",
+            "1.0.0-999, 1.0.0--",
+            "1.0.0-rc.9, 1.0.0-rc.0a",
+            "1.0.0-rc.99999999999999999999, 1.0.0-rc.100000000000000000000",
+            "1.0.0-rc.99999999999999999999, 1.0.0-rc.a",
+            "1.0.0-a, 1.0.0-a-",
+            "1.0.0+hash, 1.0.0",
+            "1.0.0-rc.1+hash, 1.0.0-rc.1",
+            "1.0.0+x, 1.0.0+y",
+            "1.0.0+x, 1.0.0+x.y",
+            "2147483646.0.0, 2147483647.0.0",
+            "4294967295.0.0, 4294967296.0.0",
+            "9223372036854775807.0.0, 9223372036854775808.0.0",
+            "99999999999999999999.0.0, 100000000000000000000.0.0",
+            "1.99999999999999999999.0, 1.99999999999999999999.1"})
+    void sortKeysHaveTheOrderOfCompareTo(String v1, String v2) {
+        var left = Semver.parse(v1);
+        var right = Semver.parse(v2);
+        assertTrue(left.compareTo(right) <= 0, left + " <= " + right);
+        assertTrue(Arrays.compareUnsigned(left.toSortKey(), right.toSortKey()) < 0, left + " < " + right);
+        assertEquals(left, Semver.fromSortKey(left.toSortKey()));
+        assertEquals(right, Semver.fromSortKey(right.toSortKey()));
+    }
+
+    @Test
+    @DisplayName("Sort keys are written to and read from buffers")
+    void sortKeysAreWrittenToAndReadFromBuffers() {
+        var versions = new Semver[]{Semver.parse("1.0.0-x-.7.--z.92-+-alpha-2-"), Semver.parse("0.0.0"),
+                Semver.parse("1.2.3-rc.1+build.5")};
+        var buffer = ByteBuffer.allocateDirect(64);
+        for (var version : versions) {
+            version.writeSortKey(buffer);
+        }
+        buffer.flip();
+        for (var version : versions) {
+            assertEquals(version, Semver.readSortKey(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+        assertThrows(BufferOverflowException.class, () -> versions[0].writeSortKey(ByteBuffer.allocate(8)));
+    }
+
+    @ParameterizedTest
+    @DisplayName("Invalid sort keys throw")
+    @ValueSource(strings = {"", "01", "00 00 00 04 02 00", "00 00 00 04 02 ff", "01 00 00 00 04 02",
+            "00 00 00 04 02 02", "00 00 00 05 02", "00 00 00 02 00 01 02", "00 00 00 02 02 01 30 01 02",
+            "00 00 00 03 31 00 01 02", "00 00 00 03 00 01 02", "00 00 00 03 2e 00 01 02", "00 00 00 04 01 2e 00",
+            "00 00 00 04 01 61 2e 00", "00 00 00 04 01 61 2e 2e 62 00", "00 00 00 04 01 61 20 00",
+            "00 00 00 04 01 61"})
+    void invalidSortKeysThrow(String hex) {
+        var key = hex.isEmpty() ? new byte[0] : new byte[(hex.length() + 1) / 3];
+        for (var i = 0; i < key.length; i++) {
+            key[i] = (byte) Integer.parseInt(hex.substring(3 * i, 3 * i + 2), 16);
+        }
+        var ex = assertThrows(IllegalArgumentException.class, () -> Semver.fromSortKey(key));
+        assertEquals("Invalid sort key", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Equals for same object")
+    void equalsForSameObject() {
+        Semver semver = Semver.parse("1.2.3");
+        assertEquals(semver, semver);
+    }
+
+    @Test
+    @DisplayName("Equals same value")
+    void equalsSameValue() {
+        var v1 = new Semver("1.2.3");
+        var v2= new Semver("1.2.3");
+        assertEquals(v1, v2);
+        assertEquals(v2, v1);
+    }
+
+    @Test
+    @DisplayName("Test copy")
+    void testClone() throws CloneNotSupportedException {
+        var v1 = Semver.parse("1.2.3-rc1+abc");
+        Semver v2 = Semver.copy(v1);
+
+        assertNotSame(v1, v2);
+        assertEquals(v1, v2);
+        assertEquals("1.2.3-rc1+abc", v2.text());
+    }
+
+    @Test
+    @DisplayName("Test toString")
+    void testToString() {
+        var v1 = Semver.parse("1.2.3-rc1+abc");
+        assertEquals(v1.text(), v1.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0.0.0", "1.2.3", "v1.2.3-rc.1", "1.2.3+b.7", "10.20.30-alpha.1+sha.5114f85"})
+    @DisplayName("Hash code and text are computed once")
+    void hashCodeAndTextAreComputedOnce(String version) {
+        var semver = Semver.parse(version);
+        var hash = Objects.hash(semver.getMajor(), semver.getMinor(), semver.getPatch(), semver.getPrerel(),
+                semver.getBuild());
+        assertEquals(hash, semver.hashCode());
+        assertEquals(hash, semver.hashCode());
+        assertEquals(hash, Semver.copy(semver).hashCode());
+        assertSame(semver.text(), semver.toString());
+        assertEquals(version.replaceFirst("^v", ""), semver.text());
+    }
+
+    @ParameterizedTest
+    @DisplayName("Builder derives versions without parsing")
+    @CsvSource({"1.2.3-rc.1+b.7 , MINOR  , rc.2    , sha.5114f85 , 1.3.0-rc.2+sha.5114f85",
+                "1.2.3          , MAJOR  , alpha.1 ,             , 2.0.0-alpha.1",
+                "1.2.3-rc.1+b.7 , PATCH  ,         , b.8         , 1.2.4+b.8",
+                "1.2.3-rc.1+b.7 , RELEASE, 0.10    ,             , 1.2.3-0.10"})
+    void builderDerivesVersionsWithoutParsing(String version, Bump bump, String prerel, String build,
+            String expected) {
+        var semver = Semver.parse(version).toBuilder().bump(bump).withPrerel(prerel).withBuild(build).build();
+        assertEquals(expected, semver.text());
+        assertEquals(Semver.parse(expected), semver);
+        assertEquals(0, semver.compareTo(Semver.parse(expected)));
+        assertEquals(semver, Semver.parse(version).bump(bump).prerel(prerel).build(build));
+    }
+
+    @Test
+    @DisplayName("Builder keeps unchanged parts")
+    void builderKeepsUnchangedParts() {
+        var builder = Semver.builder();
+        assertEquals(Semver.parse("0.0.0"), builder.build());
+        assertEquals(Semver.parse("3.2.1-rc.2+b.1"),
+                builder.withMajor(3).withMinor(2).withPatch(1).withPrerel("rc.2").withBuild("b.1").build());
+        var version = Semver.parse("1.0.0-rc.9+b.1");
+        assertEquals(Semver.parse("1.0.0-rc.9+b.2"), version.toBuilder().withBuild("b.2").build());
+        assertEquals(-1, version.toBuilder().withBuild(null).build().compareTo(Semver.parse("1.0.0-rc.10")));
+        assertEquals(Semver.parse("1.0.0"), version.toBuilder().withPrerel("").withBuild(null).build());
+    }
+
+    @Test
+    @DisplayName("Builder bumps past the range of a long")
+    void builderBumpsPastTheRangeOfALong() {
+        var semver = Semver.parse("9223372036854775807.9223372036854775807.9223372036854775807-rc.1");
+        assertEquals(Semver.parse("9223372036854775807.9223372036854775807.9223372036854775807"),
+                semver.bump(Bump.RELEASE));
+        var patch = semver.bump(Bump.PATCH);
+        assertEquals("9223372036854775807.9223372036854775807.9223372036854775808", patch.text());
+        assertEquals(Semver.parse(patch.text()), patch);
+        assertEquals(Semver.parse("9223372036854775807.9223372036854775808.0"), semver.bump(Bump.MINOR));
+        assertEquals(Semver.parse("9223372036854775808.0.0"), semver.release().bump(Bump.MAJOR));
+        assertEquals(Semver.parse("1.0.0"),
+                Semver.builder().withMajor(new BigInteger("99999999999999999999")).withMajor(1).build());
+        assertEquals(Long.MAX_VALUE, patch.toBuilder().withPatch(Long.MAX_VALUE).build().getPatchLong());
+    }
+
+    @Test
+    @DisplayName("Builder rejects invalid parts")
+    void builderRejectsInvalidParts() {
+        var builder = Semver.parse("1.0.0+b.1").toBuilder();
+        assertEquals("Major ´-1´ is invalid",
+                assertThrows(IllegalArgumentException.class, () -> builder.withMajor(-1)).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> builder.withMinor(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withPatch(-1));
+        assertEquals("Invalid semantic version '1.0.0-x.7.z.092+b.1'",
+                assertThrows(IllegalArgumentException.class, () -> builder.withPrerel("x.7.z.092")).getMessage());
+        assertEquals("Invalid semantic version '1.0.0-x.7.z.092'",
+                assertThrows(IllegalArgumentException.class, () -> Semver.parse("1.0.0+b.1").prerel("x.7.z.092"))
+                        .getMessage());
+        assertThrows(IllegalArgumentException.class, () -> builder.withBuild("b..2"));
+        assertThrows(IllegalArgumentException.class, () -> builder.bump(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.withPatch(BigInteger.valueOf(-1)));
+        assertEquals(Semver.parse("1.0.0+b.1"), builder.build());
+    }
+}